@@ -0,0 +1,81 @@
+package com.siemens.internship.benchmark;
+
+import com.siemens.internship.InternshipApplication;
+import com.siemens.internship.service.ItemStatsCounters;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Boots the application without the web layer against its own in-memory H2
+ * and seeds the item table, for benchmarks that need the real service/repository stack.
+ */
+final class BenchmarkApplication {
+
+    private static final int SEED_BATCH = 10_000;
+
+    /**
+     * Must match the allocationSize of item_seq on Item.id: the pooled optimizer hands out the block
+     * ending at the sequence value, so the sequence has to be a full block past the seeded ids.
+     */
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * @param extraProperties - property overrides, e.g. executor size
+     * @return a running context; close it in the trial tear-down
+     */
+    static ConfigurableApplicationContext start(Map<String, Object> extraProperties) {
+        Map<String, Object> properties = new HashMap<>(extraProperties);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.h2.console.enabled", "false");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("items.processing.simulated-work-ms", "0");
+        return new SpringApplicationBuilder(InternshipApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * Insert rows with ids 1..rows through plain JDBC batches, then move the id sequence past them
+     * and recount the statistics, which didn't see the inserts.
+     *
+     * @param context - running context
+     * @param rows    - number of items to insert
+     */
+    static void seed(ConfigurableApplicationContext context, int rows) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.update("DELETE FROM item");
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH);
+        for (int i = 1; i <= rows; i++) {
+            batch.add(new Object[]{(long) i, "Item " + i, "Seeded item " + i, "NEW", "user" + i + "@example.com"});
+            if (batch.size() == SEED_BATCH || i == rows) {
+                jdbc.batchUpdate("INSERT INTO item (id, name, description, status, processing_state, email, " +
+                        "email_domain, version) VALUES (?, ?, ?, ?, 'PENDING', ?, 'example.com', 0)", batch);
+                batch.clear();
+            }
+        }
+        jdbc.execute("ALTER SEQUENCE item_seq RESTART WITH " + (rows + ID_ALLOCATION_SIZE));
+        context.getBean(ItemStatsCounters.class).rebuild();
+    }
+
+    /**
+     * Put every item back to NEW so the next processing run has work to do.
+     *
+     * @param context - running context
+     */
+    static void resetStatus(ConfigurableApplicationContext context) {
+        context.getBean(JdbcTemplate.class).update("UPDATE item SET status = 'NEW', processing_state = 'PENDING'");
+    }
+}
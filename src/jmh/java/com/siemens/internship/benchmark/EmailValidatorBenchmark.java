@@ -0,0 +1,40 @@
+package com.siemens.internship.benchmark;
+
+import com.siemens.internship.validation.EmailValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of EmailValidator.isValid on typical and pathological inputs.
+ * The pathological input has a long dotted local part followed by an invalid domain,
+ * which forces the nested groups of the pattern to backtrack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailValidatorBenchmark {
+
+    @Param({"valid", "invalid", "pathological"})
+    public String input;
+
+    private final EmailValidator validator = new EmailValidator();
+    private String value;
+
+    @Setup
+    public void setup() {
+        value = switch (input) {
+            case "valid" -> "john.doe_99@mail.example.com";
+            case "invalid" -> "john.doe@@example";
+            default -> "a.".repeat(31) + "a@" + "a-".repeat(40) + "a.a";
+        };
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(value, null);
+    }
+}
@@ -0,0 +1,67 @@
+package com.siemens.internship.benchmark;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.service.ItemService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting the same number of items one save() at a time versus one batched createAll().
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemSaveBenchmark {
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApplication.start(Map.of());
+        itemService = context.getBean(ItemService.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        context.getBean(JdbcTemplate.class).update("DELETE FROM item");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int singleRowSave() {
+        for (Item item : newItems()) {
+            itemService.save(item);
+        }
+        return batchSize;
+    }
+
+    @Benchmark
+    public int batchedSave() {
+        return itemService.createAll(newItems()).size();
+    }
+
+    private List<Item> newItems() {
+        List<Item> items = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            items.add(new Item(null, "Item " + i, "Benchmark item", "NEW", "bench" + i + "@example.com"));
+        }
+        return items;
+    }
+}
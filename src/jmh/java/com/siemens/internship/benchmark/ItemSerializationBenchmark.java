@@ -0,0 +1,40 @@
+package com.siemens.internship.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siemens.internship.model.Item;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the List&lt;Item&gt; returned by GET /api/items.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemSerializationBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<Item> items;
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            items.add(new Item(i, "Item " + i, "Description of item " + i, "NEW", "user" + i + "@example.com"));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeList() throws Exception {
+        return objectMapper.writeValueAsBytes(items);
+    }
+}
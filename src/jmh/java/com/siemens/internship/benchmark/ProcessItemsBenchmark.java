@@ -0,0 +1,61 @@
+package com.siemens.internship.benchmark;
+
+import com.siemens.internship.service.ItemService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end processing of the whole item table against an embedded H2:
+ * the per-item async path at several executor sizes versus the chunked bulk mode.
+ * Each invocation starts from a table where every item is NEW.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ProcessItemsBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    @Param({"10", "50"})
+    public int executorSize;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApplication.start(Map.of(
+                "items.executor.pool-size", String.valueOf(executorSize),
+                "items.executor.max-in-flight", String.valueOf(executorSize),
+                "spring.datasource.hikari.maximum-pool-size", String.valueOf(executorSize)));
+        BenchmarkApplication.seed(context, rows);
+        itemService = context.getBean(ItemService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        BenchmarkApplication.resetStatus(context);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int processItemsAsync() {
+        return itemService.processItemsAsync().join().size();
+    }
+
+    @Benchmark
+    public long processItemsInChunks() {
+        return itemService.processItemsInChunks().updated();
+    }
+}
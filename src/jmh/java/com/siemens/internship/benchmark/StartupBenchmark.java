@@ -0,0 +1,70 @@
+package com.siemens.internship.benchmark;
+
+import com.siemens.internship.InternshipApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to first request: start the application in a fresh JVM and measure until GET /api/items answers.
+ * Every measurement forks a new JVM, so class loading and JIT start cold as on a new instance.
+ *
+ * With -Pbenchmark,fast-startup the AOT-generated classes are on the classpath and can be switched on with
+ * -Djmh.args="Startup -p profile=fast -jvmArgsAppend -Dspring.aot.enabled=true".
+ *
+ * Guard: a start that answers later than the budget fails the measurement (startup.budget-ms, 5000 by default,
+ * set in the forked JVM with -jvmArgsAppend -Dstartup.budget-ms=...). Run with -foe true so the build fails too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @Param({"default", "fast"})
+    public String profile;
+
+    /**
+     * Longest acceptable time from SpringApplication.run to the first answered request.
+     */
+    private static final long BUDGET_MS = Long.getLong("startup.budget-ms", 5000);
+
+    private ConfigurableApplicationContext context;
+
+    @Benchmark
+    public int timeToFirstRequest() throws Exception {
+        long start = System.nanoTime();
+        SpringApplication application = new SpringApplication(InternshipApplication.class);
+        application.setAdditionalProfiles(profile);
+        context = application.run("--server.port=0", "--spring.jmx.enabled=false");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/items")).build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("First request failed with " + response.statusCode());
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (millis > BUDGET_MS) {
+            throw new IllegalStateException("First request after " + millis + " ms with profile " + profile
+                    + ", budget is " + BUDGET_MS + " ms");
+        }
+        return response.statusCode();
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+}
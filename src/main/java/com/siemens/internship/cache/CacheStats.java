@@ -0,0 +1,25 @@
+package com.siemens.internship.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Counters of the item cache.
+ *
+ * @param size          - entries currently held
+ * @param maxSize       - capacity
+ * @param hits          - lookups answered from the cache
+ * @param misses        - lookups that went to the database
+ * @param evictions     - entries dropped because of size or TTL
+ * @param invalidations - entries dropped because the item was written
+ */
+public record CacheStats(int size, int maxSize, long hits, long misses, long evictions, long invalidations) {
+
+    /**
+     * @return hits / (hits + misses), 0 when nothing was looked up yet
+     */
+    @JsonProperty
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
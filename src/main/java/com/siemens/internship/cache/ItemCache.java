@@ -0,0 +1,169 @@
+package com.siemens.internship.cache;
+
+import com.siemens.internship.model.Item;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded read-through cache of items by id, in front of ItemRepository.
+ * - LRU eviction once maxSize entries are held, plus a per-entry TTL;
+ * - only copies go in and out, so callers mutating the returned Item
+ *   (e.g. processing setting the status) never corrupt the cached state;
+ * - writers invalidate; a read started before an invalidation is not allowed
+ *   to put its (possibly stale) value back, see {@link #stamp()}.
+ */
+@Component
+public class ItemCache {
+
+    private record Entry(Item item, long expiresAt) {
+    }
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<Long, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Bumped on every invalidation.
+     */
+    private final AtomicLong writeStamp = new AtomicLong();
+
+    /**
+     * @param maxSize - maximum number of cached items, 0 disables the cache
+     * @param ttl     - time an entry stays valid after it was loaded
+     */
+    public ItemCache(@Value("${items.cache.max-size:10000}") int maxSize,
+                     @Value("${items.cache.ttl:PT5M}") Duration ttl) {
+        this.maxSize = Math.max(0, maxSize);
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > ItemCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @param id - item id
+     * @return a private copy of the cached item, or empty on a miss
+     */
+    public Optional<Item> get(Long id) {
+        Item cached;
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry != null && entry.expiresAt() - System.nanoTime() <= 0) {
+                entries.remove(id);
+                evictions.increment();
+                entry = null;
+            }
+            cached = entry == null ? null : entry.item();
+        }
+        if (cached == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(cached.copy());
+    }
+
+    /**
+     * Take this before reading from the database and pass it to {@link #putIfUnchanged}.
+     *
+     * @return current write stamp
+     */
+    public long stamp() {
+        return writeStamp.get();
+    }
+
+    /**
+     * Read-through fill: cache the item unless some write invalidated entries since stamp was taken.
+     *
+     * @param item  - item as loaded from the database
+     * @param stamp - value of {@link #stamp()} taken before the load
+     */
+    public void putIfUnchanged(Item item, long stamp) {
+        if (maxSize == 0 || item.getId() == null) {
+            return;
+        }
+        Item copy = item.copy();
+        synchronized (entries) {
+            if (writeStamp.get() == stamp) {
+                entries.put(copy.getId(), new Entry(copy, System.nanoTime() + ttlNanos));
+            }
+        }
+    }
+
+    /**
+     * Drop one item, now and again once the surrounding transaction (if any) completes,
+     * so a concurrent reader can't re-cache the pre-commit row.
+     *
+     * @param id - item id
+     */
+    public void evict(Long id) {
+        evictAll(List.of(id));
+    }
+
+    /**
+     * Drop several items, now and again after the surrounding transaction completes.
+     *
+     * @param ids - item ids
+     */
+    public void evictAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        remove(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> copy = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(copy);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return current counters
+     */
+    public CacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(size, maxSize, hits.sum(), misses.sum(), evictions.sum(), invalidations.sum());
+    }
+
+    private void remove(Collection<Long> ids) {
+        synchronized (entries) {
+            writeStamp.incrementAndGet();
+            for (Long id : ids) {
+                if (entries.remove(id) != null) {
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.siemens.internship.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spring-managed executors for item processing.
+ * Replaces the static, never shut down pool that used to live in ItemService.
+ */
+@Configuration
+@EnableAsync
+public class ExecutorConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutorConfig.class);
+
+    /**
+     * Bean name of the executor used by @Async and per-item processing.
+     */
+    public static final String ITEM_EXECUTOR = "itemProcessingExecutor";
+
+    /**
+     * Bean name of the ForkJoin pool for CPU-bound item processing stages.
+     */
+    public static final String ITEM_CPU_POOL = "itemCpuPool";
+
+    /**
+     * Bean name of the executor for blocking, non-DB item processing stages (HTTP calls, sleeps).
+     */
+    public static final String ITEM_IO_EXECUTOR = "itemIoExecutor";
+
+    /**
+     * Bean name of the executor running the blocking JPA calls of the asynchronous CRUD endpoints
+     * and the processItemsAsync coordinator.
+     */
+    public static final String ITEM_DB_EXECUTOR = "itemDbExecutor";
+
+    /**
+     * Bean name of the executor running background processing jobs (POST /api/items/process).
+     */
+    public static final String ITEM_JOB_EXECUTOR = "itemJobExecutor";
+
+    /**
+     * Executor for per-item work.
+     * mode=virtual uses one virtual thread per task (needs a Java 21 runtime, see the java21 Maven profile)
+     * and falls back to the platform pool on older runtimes.
+     * In both modes the number of tasks running at once is capped by maxInFlight, which defaults
+     * to the Hikari pool size so in-flight items never queue up inside the connection pool.
+     *
+     * @param mode        - "virtual" or "platform"
+     * @param poolSize    - platform pool size
+     * @param maxInFlight - concurrency limit, defaults to spring.datasource.hikari.maximum-pool-size
+     * @return limited executor; Spring calls shutdown() on context close
+     */
+    @Bean(name = ITEM_EXECUTOR, destroyMethod = "shutdown")
+    public LimitedExecutorService itemProcessingExecutor(
+            @Value("${items.executor.mode:platform}") String mode,
+            @Value("${items.executor.pool-size:10}") int poolSize,
+            @Value("${items.executor.max-in-flight:${spring.datasource.hikari.maximum-pool-size:10}}") int maxInFlight) {
+
+        ExecutorService delegate = null;
+        if ("virtual".equalsIgnoreCase(mode)) {
+            delegate = newVirtualThreadPerTaskExecutor();
+            if (delegate == null) {
+                log.warn("Virtual threads are not available on Java {}, falling back to a platform pool of {}",
+                        Runtime.version().feature(), poolSize);
+            }
+        }
+        if (delegate == null) {
+            delegate = Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("item-proc-"));
+        }
+        return new LimitedExecutorService(delegate, maxInFlight);
+    }
+
+    /**
+     * Pool for CPU-bound ItemProcessor stages, kept apart from the common pool and from the
+     * IO executor so heavy transforms neither starve parallel streams nor hold DB-bound threads.
+     *
+     * @param parallelism - worker threads, 0 for one per available core
+     * @return ForkJoin pool; Spring calls shutdown() on context close
+     */
+    @Bean(name = ITEM_CPU_POOL, destroyMethod = "shutdown")
+    public ForkJoinPool itemCpuPool(@Value("${items.processing.cpu-parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Executor for IO ItemProcessor stages, kept apart from the item executor: that one is capped to
+     * the connection pool, so a slow remote call or sleep there would hold exactly the threads DB work needs.
+     * mode=virtual uses one virtual thread per task, like the item executor.
+     *
+     * @param mode     - "virtual" or "platform"
+     * @param poolSize - platform pool size
+     * @return IO executor; Spring calls shutdown() on context close
+     */
+    @Bean(name = ITEM_IO_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService itemIoExecutor(@Value("${items.executor.mode:platform}") String mode,
+                                          @Value("${items.processing.io-pool-size:50}") int poolSize) {
+        if ("virtual".equalsIgnoreCase(mode)) {
+            ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+            if (virtual != null) {
+                return virtual;
+            }
+        }
+        return Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("item-io-"));
+    }
+
+    /**
+     * Executor for the asynchronous CRUD endpoints: the JPA call runs here while the Tomcat worker is
+     * released. One thread per pooled connection, so no thread waits on the connection pool, and a
+     * bounded queue; a full queue rejects the task instead of letting the backlog (and latency) grow.
+     * It also runs the coordinating call of ItemService.processItemsAsync, which must not take an item permit.
+     *
+     * @param poolSize      - threads, defaults to spring.datasource.hikari.maximum-pool-size
+     * @param queueCapacity - tasks waiting for a thread
+     * @return bounded executor; Spring calls shutdown() on context close
+     */
+    @Bean(name = ITEM_DB_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolExecutor itemDbExecutor(
+            @Value("${items.db-executor.pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") int poolSize,
+            @Value("${items.db-executor.queue-capacity:1000}") int queueCapacity) {
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("item-db-"));
+    }
+
+    /**
+     * Executor for background processing jobs: one thread per job allowed to run at once, further
+     * jobs wait in the queue as QUEUED. The per-item work of a job runs on the other executors.
+     *
+     * @param maxConcurrentJobs - jobs running at the same time
+     * @return job executor; Spring calls shutdown() on context close, after ProcessingJobRegistry cancelled its jobs
+     */
+    @Bean(name = ITEM_JOB_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolExecutor itemJobExecutor(@Value("${items.jobs.max-concurrent:2}") int maxConcurrentJobs) {
+        return new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("item-job-"));
+    }
+
+    /**
+     * Executor metrics: pool threads, active threads and queue size of the platform pool
+     * (executor.* with name=item.processing) plus the limiter's running and waiting tasks,
+     * steals, queued and active workers of the CPU pool (name=item.processing.cpu),
+     * threads and queue of the IO stage pool (name=item.processing.io),
+     * threads and queue of the asynchronous CRUD executor (name=item.db),
+     * and running and queued processing jobs (name=item.jobs).
+     *
+     * @param executor    - the item processing executor
+     * @param cpuPool     - the CPU stage pool
+     * @param ioExecutor  - the IO stage executor
+     * @param dbExecutor  - the asynchronous CRUD executor
+     * @param jobExecutor - the processing job executor
+     * @return binder picked up by the Actuator meter registry
+     */
+    @Bean
+    public MeterBinder itemExecutorMetrics(@Qualifier(ITEM_EXECUTOR) LimitedExecutorService executor,
+                                           @Qualifier(ITEM_CPU_POOL) ForkJoinPool cpuPool,
+                                           @Qualifier(ITEM_IO_EXECUTOR) ExecutorService ioExecutor,
+                                           @Qualifier(ITEM_DB_EXECUTOR) ThreadPoolExecutor dbExecutor,
+                                           @Qualifier(ITEM_JOB_EXECUTOR) ThreadPoolExecutor jobExecutor) {
+        return registry -> {
+            new ExecutorServiceMetrics(executor.getDelegate(), "item.processing", Tags.empty()).bindTo(registry);
+            new ExecutorServiceMetrics(cpuPool, "item.processing.cpu", Tags.empty()).bindTo(registry);
+            new ExecutorServiceMetrics(ioExecutor, "item.processing.io", Tags.empty()).bindTo(registry);
+            new ExecutorServiceMetrics(dbExecutor, "item.db", Tags.empty()).bindTo(registry);
+            new ExecutorServiceMetrics(jobExecutor, "item.jobs", Tags.empty()).bindTo(registry);
+            Gauge.builder("items.executor.in.flight", executor, LimitedExecutorService::getActiveCount)
+                    .description("Item tasks currently holding an execution permit")
+                    .register(registry);
+            Gauge.builder("items.executor.waiting", executor, LimitedExecutorService::getWaitingCount)
+                    .description("Item tasks waiting for an execution permit")
+                    .register(registry);
+            Gauge.builder("items.executor.max.in.flight", executor, LimitedExecutorService::getMaxConcurrency)
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Looked up reflectively so the code still compiles and runs with the default Java 17 toolchain.
+     *
+     * @return a virtual-thread-per-task executor, or null if the runtime has no virtual threads
+     */
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
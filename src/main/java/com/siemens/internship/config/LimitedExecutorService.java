@@ -0,0 +1,118 @@
+package com.siemens.internship.config;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExecutorService decorator that caps how many submitted tasks run at the same time.
+ * The permit is taken inside the task, so with virtual threads thousands of waiting
+ * items just park cheaply instead of all grabbing a JDBC connection at once.
+ */
+public class LimitedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+
+    /**
+     * @param delegate       - executor that actually runs the tasks
+     * @param maxConcurrency - maximum number of tasks running at once, must be positive
+     */
+    public LimitedExecutorService(ExecutorService delegate, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive, got " + maxConcurrency);
+        }
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    /**
+     * A task interrupted while waiting for a permit (e.g. by shutdownNow) still runs, without a permit and
+     * with the interrupt flag set: dropping it would leave a CompletableFuture fed by it pending forever.
+     */
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(() -> {
+            boolean acquired = false;
+            try {
+                permits.acquire();
+                acquired = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            try {
+                command.run();
+            } finally {
+                if (acquired) {
+                    permits.release();
+                }
+            }
+        });
+    }
+
+    /**
+     * @return tasks currently holding a permit
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * @return tasks that were handed over but are still waiting for a permit
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * @return tasks handed over but not running yet: waiting for a permit, or for a thread of a platform pool
+     */
+    public int getQueuedCount() {
+        int queued = getWaitingCount();
+        if (delegate instanceof ThreadPoolExecutor pool) {
+            queued += pool.getQueue().size();
+        }
+        return queued;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return the wrapped executor
+     */
+    public ExecutorService getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
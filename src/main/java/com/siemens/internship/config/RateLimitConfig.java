@@ -0,0 +1,28 @@
+package com.siemens.internship.config;
+
+import com.siemens.internship.ratelimit.LoadShedder;
+import com.siemens.internship.ratelimit.RateLimitInterceptor;
+import com.siemens.internship.ratelimit.RateLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Rate limiting and load shedding of the write and processing endpoints (see RateLimited).
+ * Reads are not limited here.
+ */
+@Configuration
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private LoadShedder loadShedder;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, loadShedder)).addPathPatterns("/api/**");
+    }
+}
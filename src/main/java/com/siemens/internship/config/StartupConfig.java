@@ -0,0 +1,24 @@
+package com.siemens.internship.config;
+
+import com.siemens.internship.processing.ItemPipeline;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings for spring.main.lazy-initialization=true (the fast profile).
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Beans created at startup even with lazy initialization: the pipeline resolves and orders every
+     * ItemProcessor, so a broken processor chain fails the start instead of the first processing request.
+     *
+     * @return filter keeping these beans eager
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerItemBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(ItemPipeline.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.siemens.internship.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary representations of the item lists next to JSON, picked by the Accept header. The converters
+ * are registered globally, but only mappings that list CBOR or Smile in produces can answer with them;
+ * the controllers default to JSON.
+ * CBOR and Smile keep Jackson's data model but encode field names and numbers compactly,
+ * and Smile back-references repeated field names, which is most of a List&lt;Item&gt; payload.
+ *
+ * The converters are built from Boot's ObjectMapper builder, so spring.jackson.* settings
+ * apply to every format alike.
+ */
+@Configuration
+public class WireFormatConfig {
+
+    /**
+     * Media type of Jackson Smile, as a String for produces/consumes attributes
+     * (CBOR uses Spring's MediaType.APPLICATION_CBOR_VALUE).
+     */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * Media type of Jackson Smile, for content negotiation and tests.
+     */
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    /**
+     * @param builder - Boot's Jackson builder
+     * @return converter for application/cbor
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * @param builder - Boot's Jackson builder
+     * @return converter for application/x-jackson-smile
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
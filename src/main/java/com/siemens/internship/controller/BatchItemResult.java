@@ -0,0 +1,37 @@
+package com.siemens.internship.controller;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * Outcome of one entry of a batch request.
+ *
+ * @param index   - position of the entry in the request body
+ * @param id      - id of the affected item, if known
+ * @param outcome - what happened to the entry
+ * @param errors  - field → message map for INVALID entries
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult(int index, Long id, Outcome outcome, Map<String, String> errors) {
+
+    /**
+     * Per-entry result of a batch operation.
+     */
+    public enum Outcome { CREATED, UPDATED, DELETED, INVALID, NOT_FOUND }
+
+    /**
+     * @return true if the entry was applied
+     */
+    public boolean succeeded() {
+        return outcome == Outcome.CREATED || outcome == Outcome.UPDATED || outcome == Outcome.DELETED;
+    }
+
+    static BatchItemResult of(int index, Long id, Outcome outcome) {
+        return new BatchItemResult(index, id, outcome, null);
+    }
+
+    static BatchItemResult invalid(int index, Long id, Map<String, String> errors) {
+        return new BatchItemResult(index, id, Outcome.INVALID, errors);
+    }
+}
@@ -0,0 +1,19 @@
+package com.siemens.internship.controller;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Body returned by the /api/items/batch endpoints.
+ *
+ * @param succeeded - entries that were applied
+ * @param failed    - entries that were rejected or not found
+ * @param results   - one result per entry, in request order
+ */
+public record BatchResponse(int succeeded, int failed, List<BatchItemResult> results) {
+
+    static BatchResponse of(BatchItemResult[] results) {
+        int succeeded = (int) Arrays.stream(results).filter(BatchItemResult::succeeded).count();
+        return new BatchResponse(succeeded, results.length - succeeded, List.of(results));
+    }
+}
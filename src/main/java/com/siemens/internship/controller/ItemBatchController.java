@@ -0,0 +1,251 @@
+package com.siemens.internship.controller;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.ratelimit.RateLimited;
+import com.siemens.internship.service.ItemService;
+import com.siemens.internship.utils.BadRequestException;
+import com.siemens.internship.utils.ValidationException;
+import com.siemens.internship.validation.FieldErrors;
+import com.siemens.internship.validation.ItemValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk create/update/delete endpoints.
+ * Every entry is validated in one pass, the valid ones are persisted in a single
+ * transaction (batched by Hibernate) and a per-entry result is returned.
+ * Bodies are accepted as a JSON array or as NDJSON (one document per line); both are read
+ * entry by entry and rejected once they exceed the batch limit.
+ */
+@RestController
+@RequestMapping(value = "/api/items/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+public class ItemBatchController {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemValidator itemValidator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Upper bound on entries per request.
+     */
+    @Value("${items.batch.max-size:10000}")
+    private int maxBatchSize;
+
+    /**
+     * POST /api/items/batch
+     * @param body - JSON array of the items to create
+     * @return OK (200) with one CREATED or INVALID result per entry
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @RateLimited("batch")
+    public ResponseEntity<BatchResponse> createItems(InputStream body) throws IOException {
+        return ResponseEntity.ok(create(readJsonArray(body, Item.class)));
+    }
+
+    /**
+     * POST /api/items/batch with an NDJSON body.
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @RateLimited("batch")
+    public ResponseEntity<BatchResponse> createItemsNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(create(readNdjson(body, Item.class)));
+    }
+
+    private BatchResponse create(List<Item> items) {
+        rejectNullEntries(items, "Item must not be null");
+        BatchItemResult[] results = new BatchItemResult[items.size()];
+        List<Item> valid = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        FieldErrors errors = new FieldErrors();
+
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            errors.clear();
+            if (itemValidator.validate(item, errors)) {
+                valid.add(item);
+                validIndexes.add(i);
+            } else {
+                results[i] = BatchItemResult.invalid(i, null, errors.toMap());
+            }
+        }
+
+        List<Item> saved = itemService.createAll(valid);
+        for (int k = 0; k < saved.size(); k++) {
+            int index = validIndexes.get(k);
+            results[index] = BatchItemResult.of(index, saved.get(k).getId(), BatchItemResult.Outcome.CREATED);
+        }
+        return BatchResponse.of(results);
+    }
+
+    /**
+     * PUT /api/items/batch
+     * @param body - JSON array of the new data, each entry carrying the id of the item to update
+     * @return OK (200) with one UPDATED, INVALID or NOT_FOUND result per entry
+     */
+    @PutMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @RateLimited("batch")
+    public ResponseEntity<BatchResponse> updateItems(InputStream body) throws IOException {
+        return ResponseEntity.ok(update(readJsonArray(body, Item.class)));
+    }
+
+    /**
+     * PUT /api/items/batch with an NDJSON body.
+     */
+    @PutMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @RateLimited("batch")
+    public ResponseEntity<BatchResponse> updateItemsNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(update(readNdjson(body, Item.class)));
+    }
+
+    private BatchResponse update(List<Item> items) {
+        rejectNullEntries(items, "Item must not be null");
+        BatchItemResult[] results = new BatchItemResult[items.size()];
+        List<Item> valid = new ArrayList<>();
+        FieldErrors errors = new FieldErrors();
+
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            errors.clear();
+            itemValidator.validate(item, errors);
+            if (item.getId() == null) {
+                errors.add("id", "Id is required");
+            }
+            if (errors.isEmpty()) {
+                valid.add(item);
+            } else {
+                results[i] = BatchItemResult.invalid(i, item.getId(), errors.toMap());
+            }
+        }
+
+        Map<Long, Item> updated = itemService.updateAll(valid);
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                Long id = items.get(i).getId();
+                results[i] = BatchItemResult.of(i, id, updated.containsKey(id)
+                        ? BatchItemResult.Outcome.UPDATED
+                        : BatchItemResult.Outcome.NOT_FOUND);
+            }
+        }
+        return BatchResponse.of(results);
+    }
+
+    /**
+     * DELETE /api/items/batch
+     * @param body - JSON array of the ids of the items to remove
+     * @return OK (200) with one DELETED, INVALID or NOT_FOUND result per entry
+     */
+    @DeleteMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @RateLimited("batch")
+    public ResponseEntity<BatchResponse> deleteItems(InputStream body) throws IOException {
+        return ResponseEntity.ok(delete(readJsonArray(body, Long.class)));
+    }
+
+    /**
+     * DELETE /api/items/batch with an NDJSON body (one id per line).
+     */
+    @DeleteMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @RateLimited("batch")
+    public ResponseEntity<BatchResponse> deleteItemsNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(delete(readNdjson(body, Long.class)));
+    }
+
+    private BatchResponse delete(List<Long> ids) {
+        rejectNullEntries(ids, "Id is required");
+        Set<Long> deleted = itemService.deleteAllById(ids);
+
+        BatchItemResult[] results = new BatchItemResult[ids.size()];
+        for (int i = 0; i < results.length; i++) {
+            Long id = ids.get(i);
+            results[i] = BatchItemResult.of(i, id, deleted.contains(id)
+                    ? BatchItemResult.Outcome.DELETED
+                    : BatchItemResult.Outcome.NOT_FOUND);
+        }
+        return BatchResponse.of(results);
+    }
+
+    /**
+     * A null entry (e.g. [null]) has nothing to validate or report on per field, so the whole request
+     * is rejected with a 400 listing the offending indexes ("[i]" → message).
+     */
+    private static void rejectNullEntries(List<?> entries, String message) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i) == null) {
+                errors.put("[" + i + "]", message);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+    }
+
+    /**
+     * Read the elements of a JSON array one at a time, failing as soon as there are more than
+     * maxBatchSize, so an oversized body is never held in memory.
+     */
+    private <T> List<T> readJsonArray(InputStream body, Class<T> type) throws IOException {
+        List<T> entries = new ArrayList<>();
+        ObjectReader reader = objectMapper.readerFor(type);
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException("Batch body must be a JSON array");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new BadRequestException("Batch body ends inside the JSON array");
+                }
+                checkRoom(entries);
+                entries.add(reader.readValue(parser));
+            }
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Malformed batch body: " + e.getOriginalMessage());
+        }
+        return entries;
+    }
+
+    /**
+     * Read one document per line, failing as soon as there are more than maxBatchSize,
+     * so an oversized body is never held in memory.
+     */
+    private <T> List<T> readNdjson(InputStream body, Class<T> type) throws IOException {
+        List<T> entries = new ArrayList<>();
+        try (MappingIterator<T> documents = objectMapper.readerFor(type).readValues(body)) {
+            while (documents.hasNextValue()) {
+                checkRoom(entries);
+                entries.add(documents.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Malformed batch body: " + e.getOriginalMessage());
+        }
+        return entries;
+    }
+
+    private void checkRoom(List<?> entries) {
+        if (entries.size() == maxBatchSize) {
+            throw new BadRequestException("Batch size must be at most " + maxBatchSize);
+        }
+    }
+}
@@ -1,57 +1,258 @@
 package com.siemens.internship.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siemens.internship.cache.CacheStats;
+import com.siemens.internship.config.WireFormatConfig;
+import com.siemens.internship.model.DeadLetterItem;
 import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChange;
+import com.siemens.internship.model.ItemSearchCriteria;
+import com.siemens.internship.ratelimit.RateLimited;
+import com.siemens.internship.service.AsyncItemService;
+import com.siemens.internship.service.BulkProcessingResult;
+import com.siemens.internship.service.DeadLetterReplayResult;
+import com.siemens.internship.service.ItemChangeLog;
 import com.siemens.internship.service.ItemService;
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
+import com.siemens.internship.service.ItemStats;
+import com.siemens.internship.service.ProcessingJob;
+import com.siemens.internship.service.ProcessingJobRegistry;
+import com.siemens.internship.service.ProcessingJobStatus;
+import com.siemens.internship.service.ReactiveItemProcessor;
+import com.siemens.internship.service.SingleFlight;
+import com.siemens.internship.snapshot.ItemSnapshotService;
+import com.siemens.internship.snapshot.SnapshotResult;
+import com.siemens.internship.validation.ItemValidator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * REST API endpoints for managing Item resources.
+ * JSON unless a mapping says otherwise: CBOR and Smile are only offered by the item list endpoints.
  */
 @RestController
-@RequestMapping("/api/items")
+@RequestMapping(value = "/api/items", produces = MediaType.APPLICATION_JSON_VALUE)
 public class ItemController {
 
     @Autowired
     private ItemService itemService;
 
-    private static final Validator LOCAL_VALIDATOR;
-    static {
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        LOCAL_VALIDATOR = factory.getValidator();
-    }
+    @Autowired
+    private AsyncItemService asyncItemService;
+
+    @Autowired
+    private ProcessingJobRegistry jobRegistry;
+
+    @Autowired
+    private ReactiveItemProcessor reactiveProcessor;
+
+    @Autowired
+    private ItemChangeLog changeLog;
+
+    @Autowired
+    private ItemSnapshotService snapshotService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ItemValidator itemValidator;
+
+    /**
+     * Concurrent GET /api/items/process calls share one run instead of each queueing every pending item.
+     */
+    private final SingleFlight<List<Item>> processRun = new SingleFlight<>();
+
+    /**
+     * Page size used when a cursor is given without a limit.
+     */
+    static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * Response header carrying the cursor of the next page.
+     */
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * How many NDJSON lines are written between explicit flushes.
+     */
+    private static final int STREAM_FLUSH_INTERVAL = 1000;
 
     /**
      * GET  /api/items
-     * @return OK (200) and list of items
+     * Without parameters returns the whole list; with limit and/or after returns one keyset page.
+     * When the page is full, X-Next-Cursor and a rel="next" Link header point at the following page.
+     * The ETag is the collection version; a matching If-None-Match gets NOT_MODIFIED (304) without a query.
+     * Served as JSON, CBOR or Smile depending on the Accept header. The ETag is weak because the
+     * representations (and their gzip encodings) differ byte for byte, and the server doesn't compress
+     * responses with strong ETags.
+     * @param limit - page size (defaults to 100 when only after is given)
+     * @param after - cursor: id of the last item of the previous page
+     * @param request - carries the conditional headers
+     * @return OK (200) and list of items, NOT_MODIFIED (304), or BAD_REQUEST (400) for an invalid limit
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            WireFormatConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<Item>> getAllItems(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long after,
+            WebRequest request) {
+        // read before the query: a write committed in between makes the next request miss, never serve stale data
+        String etag = "W/\"" + changeLog.getCollectionVersion() + "\"";
+        if (request.checkNotModified(etag)) {
+            return notModified();
+        }
+        if (limit == null && after == null) {
+            return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(itemService.findAll());
+        }
+
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        List<Item> page = itemService.findPage(after, pageSize);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT);
+        if (page.size() == pageSize) {
+            Long next = page.get(page.size() - 1).getId();
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(next))
+                    .header(HttpHeaders.LINK, "</api/items?after=" + next + "&limit=" + pageSize + ">; rel=\"next\"");
+        }
+        return response.body(page);
+    }
+
+    /**
+     * GET  /api/items/search?status=S&domain=D&namePrefix=P
+     * Items matching every given filter, one keyset page at a time: status is exact, the email domain
+     * case-insensitive and the name prefix case-sensitive. Paging works as on GET /api/items.
+     * @param status - exact status
+     * @param domain - email domain, e.g. example.com
+     * @param namePrefix - start of the name
+     * @param limit - page size (default 100)
+     * @param after - cursor: id of the last item of the previous page
+     * @return OK (200) and the matching items, or BAD_REQUEST (400) for an invalid limit
      */
-    @GetMapping
-    public ResponseEntity<List<Item>> getAllItems() {
-        return ResponseEntity.ok(itemService.findAll());
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            WireFormatConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<Item>> searchItems(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String domain,
+            @RequestParam(required = false) String namePrefix,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) Long after) {
+        List<Item> page = itemService.search(new ItemSearchCriteria(status, domain, namePrefix), after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == limit) {
+            Long next = page.get(page.size() - 1).getId();
+            String link = UriComponentsBuilder.fromPath("/api/items/search")
+                    .queryParamIfPresent("status", Optional.ofNullable(status))
+                    .queryParamIfPresent("domain", Optional.ofNullable(domain))
+                    .queryParamIfPresent("namePrefix", Optional.ofNullable(namePrefix))
+                    .queryParam("after", next)
+                    .queryParam("limit", limit)
+                    .encode()
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(next))
+                    .header(HttpHeaders.LINK, "<" + link + ">; rel=\"next\"");
+        }
+        return response.body(page);
+    }
+
+    /**
+     * GET  /api/items with Accept: application/x-ndjson
+     * Streams every item as one JSON document per line, written while rows are read from a DB cursor,
+     * so server memory stays flat regardless of the table size.
+     * @return OK (200) and a streamed NDJSON body
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllItems() {
+        return this.<Item>ndjson(itemService::forEachItem);
+    }
+
+    /**
+     * GET  /api/items/changes?since=N
+     * One page of the change feed: creations, updates, deletions and processing of items after
+     * sequence number N, in order. Consumers store the X-Next-Cursor value and pass it as since next time.
+     * JSON only: the nested item is written raw, which the binary formats can't do.
+     * @param since - last sequence number already seen (default: from the beginning)
+     * @param limit - page size (default 100)
+     * @return OK (200) and the changes, or BAD_REQUEST (400) for an invalid limit
+     */
+    @GetMapping(value = "/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ItemChange>> getChanges(
+            @RequestParam(required = false) Long since,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        List<ItemChange> changes = changeLog.findSince(since, limit);
+        Long next = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSeq();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (next != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(next));
+        }
+        return response.body(changes);
+    }
+
+    /**
+     * GET  /api/items/changes?since=N with Accept: application/x-ndjson
+     * Streams every change after N, one JSON document per line, read through a DB cursor.
+     * @param since - last sequence number already seen (default: from the beginning)
+     * @return OK (200) and a streamed NDJSON body
+     */
+    @GetMapping(value = "/changes", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamChanges(@RequestParam(required = false) Long since) {
+        return this.<ItemChange>ndjson(consumer -> changeLog.forEachSince(since, consumer));
+    }
+
+    /**
+     * Stream whatever the source pushes as NDJSON, flushing the first line immediately
+     * and then every STREAM_FLUSH_INTERVAL lines.
+     */
+    private <T> ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<T>> source) {
+        StreamingResponseBody body = out -> {
+            long[] written = {0};
+            try {
+                source.accept(element -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(element));
+                        out.write('\n');
+                        // flush the first line right away for a short time-to-first-byte
+                        if (++written[0] == 1 || written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                            out.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
      * POST  /api/items
      * @param item - payload to create
-     * @return CREATED (201) and created item, or BAD_REQUEST (400) if invalid
+     * @return CREATED (201) and created item, BAD_REQUEST (400) with field errors if invalid,
+     * TOO_MANY_REQUESTS (429) or SERVICE_UNAVAILABLE (503) with Retry-After when throttled
      */
     @PostMapping
+    @RateLimited("create")
     public ResponseEntity<Item> createItem(@RequestBody Item item) {
-
-        Set<ConstraintViolation<Item>> violations = LOCAL_VALIDATOR.validate(item);
-        if(!violations.isEmpty()) {
-            return ResponseEntity.badRequest().build();
-        }
+        itemValidator.validateOrThrow(item);
 
         Item savedItem = itemService.save(item);
         return new ResponseEntity<>(savedItem, HttpStatus.CREATED);
@@ -59,30 +260,66 @@ public class ItemController {
 
     /**
      * GET  /api/items/{id}
+     * The ETag is the item version, weak and with Vary: Accept like on GET /api/items;
+     * a matching If-None-Match gets NOT_MODIFIED (304) after a version-only lookup,
+     * without loading or serializing the item.
+     * Numeric ids only, so /changes or /search with an unsupported Accept header get NOT_ACCEPTABLE (406)
+     * instead of falling through to this mapping.
      * @param id - item identifier
-     * @return OK (200) and item, or NOT_FOUND (404) if not found
+     * @param request - carries the conditional headers
+     * @return OK (200) and item, NOT_MODIFIED (304), or NOT_FOUND (404) if not found
+     */
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<Item> getItemById(@PathVariable Long id, WebRequest request) {
+        Optional<Long> version = itemService.findVersion(id);
+        if (version.isPresent() && request.checkNotModified(itemETag(version.get()))) {
+            return notModified();
+        }
+        return withValidators(itemService.findByIdOrThrow(id));
+    }
+
+    /**
+     * OK (200) with the item, its version as ETag and its last modification as Last-Modified.
+     */
+    private static ResponseEntity<Item> withValidators(Item item) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (item.getVersion() != null) {
+            response.eTag(itemETag(item.getVersion()));
+        }
+        if (item.getLastModified() != null) {
+            response.lastModified(item.getLastModified());
+        }
+        return response.body(item);
+    }
+
+    /**
+     * Weak: the gzip and identity encodings of one version differ byte for byte, and the server doesn't
+     * compress responses with strong ETags.
+     */
+    private static String itemETag(long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /**
+     * NOT_MODIFIED (304) once checkNotModified has set the validators; a cache needs Vary here too,
+     * or it would pair the stored representation with any Accept header.
      */
-    @GetMapping("/{id}")
-    public ResponseEntity<Item> getItemById(@PathVariable Long id) {
-        Item item = itemService.findByIdOrThrow(id);
-        return ResponseEntity.ok(item);
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
     }
 
     /**
      * PUT  /api/items/{id}
      * @param id - item to update
      * @param item - new data (validated)
-     * @return OK (200) and updated item, or NOT_FOUND (404)
+     * @return OK (200) and updated item, BAD_REQUEST (400) with field errors if invalid, or NOT_FOUND (404)
      */
     @PutMapping("/{id}")
+    @RateLimited("update")
     public ResponseEntity<Item> updateItem(
             @PathVariable Long id,
             @RequestBody Item item) {
-
-        Set<ConstraintViolation<Item>> violations = LOCAL_VALIDATOR.validate(item);
-        if(!violations.isEmpty()) {
-            return ResponseEntity.badRequest().build();
-        }
+        itemValidator.validateOrThrow(item);
 
         Item updatedItem = itemService.updateItem(id, item);
         return ResponseEntity.ok(updatedItem);
@@ -94,19 +331,202 @@ public class ItemController {
      * @return NO_CONTENT (204) on success, NOT_FOUND (404) if missing
      */
     @DeleteMapping("/{id}")
+    @RateLimited("delete")
     public ResponseEntity<Void> deleteItem(@PathVariable Long id) {
         itemService.deleteById(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    /**
+     * GET  /api/items/async/{id}
+     * Like GET /api/items/{id}, but the lookup runs on the DB executor and the Tomcat worker is released
+     * meanwhile (see AsyncItemService), so in-flight requests aren't capped by the Tomcat thread count.
+     * @param id - item identifier
+     * @return OK (200) and item, NOT_FOUND (404), or SERVICE_UNAVAILABLE (503) on timeout or a full executor
+     */
+    @GetMapping("/async/{id}")
+    public CompletableFuture<ResponseEntity<Item>> getItemByIdAsync(@PathVariable Long id) {
+        return asyncItemService.findById(id).thenApply(ItemController::withValidators);
+    }
+
+    /**
+     * POST  /api/items/async
+     * Like POST /api/items, with the write running on the DB executor.
+     * @param item - payload to create
+     * @return CREATED (201) and created item, BAD_REQUEST (400) with field errors if invalid,
+     * TOO_MANY_REQUESTS (429), or SERVICE_UNAVAILABLE (503) when overloaded or timed out
+     */
+    @PostMapping("/async")
+    @RateLimited("create")
+    public CompletableFuture<ResponseEntity<Item>> createItemAsync(@RequestBody Item item) {
+        itemValidator.validateOrThrow(item);
+
+        return asyncItemService.save(item)
+                .thenApply(savedItem -> new ResponseEntity<>(savedItem, HttpStatus.CREATED));
+    }
+
+    /**
+     * PUT  /api/items/async/{id}
+     * Like PUT /api/items/{id}, with the write running on the DB executor.
+     * @param id - item to update
+     * @param item - new data (validated)
+     * @return OK (200) and updated item, BAD_REQUEST (400), NOT_FOUND (404),
+     * TOO_MANY_REQUESTS (429), or SERVICE_UNAVAILABLE (503) when overloaded or timed out
+     */
+    @PutMapping("/async/{id}")
+    @RateLimited("update")
+    public CompletableFuture<ResponseEntity<Item>> updateItemAsync(
+            @PathVariable Long id,
+            @RequestBody Item item) {
+        itemValidator.validateOrThrow(item);
+
+        return asyncItemService.updateItem(id, item).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * DELETE /api/items/async/{id}
+     * Like DELETE /api/items/{id}, with the delete running on the DB executor.
+     * @param id - item to remove
+     * @return NO_CONTENT (204) on success, NOT_FOUND (404) if missing,
+     * TOO_MANY_REQUESTS (429), or SERVICE_UNAVAILABLE (503) when overloaded or timed out
+     */
+    @DeleteMapping("/async/{id}")
+    @RateLimited("delete")
+    public CompletableFuture<ResponseEntity<Void>> deleteItemAsync(@PathVariable Long id) {
+        return asyncItemService.deleteById(id)
+                .thenApply(deleted -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
+    }
+
     /**
      * GET  /api/items/process
-     * Trigger asynchronous processing of all items.
-     * @return ACCEPTED (202) and list of items already queued
+     * Trigger asynchronous processing of all items; a call made while a run is in flight joins that run.
+     * Served as JSON, CBOR or Smile depending on the Accept header.
+     * @return ACCEPTED (202) and list of items already queued,
+     * or TOO_MANY_REQUESTS (429) / SERVICE_UNAVAILABLE (503) with Retry-After when throttled
      */
-    @GetMapping("/process")
+    @GetMapping(value = "/process", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            WireFormatConfig.APPLICATION_SMILE_VALUE})
+    @RateLimited(value = "process", usesExecutor = true)
     public CompletableFuture<ResponseEntity<List<Item>>> processItems() {
-        return itemService.processItemsAsync()
+        return processRun.run(itemService::processItemsAsync)
                 .thenApply(list -> ResponseEntity.accepted().body(list));
     }
-}
\ No newline at end of file
+
+    /**
+     * GET  /api/items/process/stream
+     * Run the backpressured read -> transform -> write pipeline and stream each processed item
+     * as it is written, as Server-Sent Events or NDJSON. The client's read rate throttles the run;
+     * closing the connection cancels it.
+     * @return OK (200) and a stream of processed items
+     */
+    @GetMapping(value = "/process/stream",
+            produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @RateLimited(value = "process", usesExecutor = true)
+    public Flux<Item> streamProcessing() {
+        return reactiveProcessor.process();
+    }
+
+    /**
+     * POST /api/items/process/bulk
+     * Process all items in keyset-paginated chunks through the item pipeline, one batched write per chunk.
+     * @param chunkSize - optional override of the configured chunk size
+     * @return OK (200) and a summary of the run, or BAD_REQUEST (400) for a non-positive chunk size
+     */
+    @PostMapping("/process/bulk")
+    @RateLimited("process")
+    public ResponseEntity<BulkProcessingResult> processItemsBulk(
+            @RequestParam(required = false) Integer chunkSize) {
+        BulkProcessingResult result = chunkSize == null
+                ? itemService.processItemsInChunks()
+                : itemService.processItemsInChunks(chunkSize);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * POST /api/items/process
+     * Start a background processing job and return right away instead of holding the request open.
+     * While a job is queued or running, its status is returned instead of starting another one.
+     * @return ACCEPTED (202), the job status and a Location header pointing at the polling endpoint
+     */
+    @PostMapping("/process")
+    @RateLimited("process")
+    public ResponseEntity<ProcessingJobStatus> startProcessingJob() {
+        ProcessingJob job = jobRegistry.submit();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/items/process/" + job.getId()))
+                .body(job.snapshot());
+    }
+
+    /**
+     * GET  /api/items/process/{jobId}
+     * @param jobId - job identifier
+     * @return OK (200) with processed/skipped/failed counts, throughput and ETA, or NOT_FOUND (404)
+     */
+    @GetMapping("/process/{jobId}")
+    public ResponseEntity<ProcessingJobStatus> getProcessingJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(jobRegistry.get(jobId).snapshot());
+    }
+
+    /**
+     * DELETE /api/items/process/{jobId}
+     * Cancel a job; a running job stops after its current chunk.
+     * @param jobId - job identifier
+     * @return ACCEPTED (202) with the job status, or NOT_FOUND (404)
+     */
+    @DeleteMapping("/process/{jobId}")
+    public ResponseEntity<ProcessingJobStatus> cancelProcessingJob(@PathVariable String jobId) {
+        return ResponseEntity.accepted().body(jobRegistry.cancel(jobId).snapshot());
+    }
+
+    /**
+     * GET  /api/items/dead-letters
+     * @param limit - maximum number of entries (default 100)
+     * @return OK (200) and the oldest items whose processing failed for good, with the type of their cause
+     */
+    @GetMapping("/dead-letters")
+    public ResponseEntity<List<DeadLetterItem>> getDeadLetters(
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        return ResponseEntity.ok(itemService.findDeadLetters(limit));
+    }
+
+    /**
+     * POST /api/items/dead-letters/replay
+     * Process dead-lettered items again; the ones that succeed leave the dead-letter table.
+     * @return OK (200) and how many were replayed, succeeded and failed again
+     */
+    @PostMapping("/dead-letters/replay")
+    @RateLimited(value = "process", usesExecutor = true)
+    public CompletableFuture<ResponseEntity<DeadLetterReplayResult>> replayDeadLetters() {
+        return itemService.replayDeadLetters().thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * GET  /api/items/cache/stats
+     * @return OK (200) with hit, miss and eviction counters of the item cache
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStats> getCacheStats() {
+        return ResponseEntity.ok(itemService.cacheStats());
+    }
+
+    /**
+     * GET  /api/items/stats
+     * Served from counters kept up to date by every write, so no table scan per call.
+     * @return OK (200) with the number of items in total, per status and per email domain
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ItemStats> getStats() {
+        return ResponseEntity.ok(itemService.stats());
+    }
+
+    /**
+     * POST /api/items/snapshot
+     * Save every item to the snapshot file, which items.snapshot.load-on-startup restores on the next start.
+     * @return OK (200) with the file, item count, size and duration
+     */
+    @PostMapping("/snapshot")
+    @RateLimited("snapshot")
+    public ResponseEntity<SnapshotResult> saveSnapshot() {
+        return ResponseEntity.ok(snapshotService.export());
+    }
+}
@@ -0,0 +1,307 @@
+package com.siemens.internship.index;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemSearchCriteria;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Optional in-process secondary index over the search fields of every item:
+ * hash maps from status and from email domain to id sets kept in id order, and a trie over names.
+ * A search walks the smallest of the candidate sets in id order and checks the other filters
+ * against the indexed values, so a selective filter answers without touching the database
+ * until the page of ids is known.
+ *
+ * It is built from the table when the application is ready and then follows the committed changes
+ * that ItemChangeLog reports. Updates carry the item version and an older one never replaces a newer
+ * one, so a change committed during the build is not undone by the build reading the row before it.
+ * Writes made behind the change log's back (e.g. by another node) are not seen: callers re-check
+ * loaded items against the filters, so staleness can hide an item but never return a wrong one.
+ */
+@Component
+public class ItemSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemSearchIndex.class);
+
+    private static final String SELECT_ENTRIES = "SELECT id, name, status, email_domain, version FROM item";
+
+    /**
+     * Search fields of one item.
+     *
+     * @param id          - item id
+     * @param name        - name
+     * @param status      - status
+     * @param emailDomain - email domain
+     * @param version     - item version, null if unknown
+     */
+    public record Entry(long id, String name, String status, String emailDomain, Long version) {
+
+        /**
+         * @param item - item to index
+         * @return its search fields
+         */
+        public static Entry of(Item item) {
+            return new Entry(item.getId(), item.getName(), item.getStatus(), item.getEmailDomain(), item.getVersion());
+        }
+
+        boolean isNewerThan(Entry other) {
+            return version == null || other.version == null || version >= other.version;
+        }
+    }
+
+    /**
+     * Ids with one key, in id order, with an O(1) size (ConcurrentSkipListSet.size() is linear).
+     */
+    private record Postings(ConcurrentSkipListSet<Long> ids, AtomicInteger size) {
+
+        Postings() {
+            this(new ConcurrentSkipListSet<>(), new AtomicInteger());
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Build and maintain the index; when off, searches always go to the database.
+     */
+    @Value("${items.search.index.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * Name prefixes shorter than this, with no other filter, are left to the (name, id) database index:
+     * they match a large share of the trie and the merge would visit most of its nodes.
+     */
+    @Value("${items.search.index.min-name-prefix:3}")
+    private int minNamePrefix = 3;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Postings> byStatus = new ConcurrentHashMap<>();
+    private final Map<String, Postings> byDomain = new ConcurrentHashMap<>();
+    private final NamePrefixTrie byName = new NamePrefixTrie();
+
+    /**
+     * Ids deleted while a build runs, so the build doesn't re-add rows it read before their deletion.
+     */
+    private final Set<Long> deletedDuringBuild = new HashSet<>();
+    private boolean building;
+    private volatile boolean ready;
+
+    /**
+     * @return true if the index is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return true once the index holds every item and can answer searches
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @param criteria - filters, at least one set
+     * @return true if the index is ready and worth asking for these criteria
+     */
+    public boolean canAnswer(ItemSearchCriteria criteria) {
+        return ready && (criteria.status() != null || criteria.emailDomain() != null
+                || criteria.namePrefix().length() >= minNamePrefix);
+    }
+
+    /**
+     * @return number of indexed items
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Ids of the items matching the criteria, as far as the index knows.
+     *
+     * @param criteria - filters, at least one set
+     * @param after    - cursor, null to start from the beginning
+     * @param limit    - maximum number of ids
+     * @return up to limit ids in ascending order
+     */
+    public List<Long> findIds(ItemSearchCriteria criteria, Long after, int limit) {
+        long from = after == null ? Long.MIN_VALUE : after;
+        int statusSize = criteria.status() == null ? Integer.MAX_VALUE : size(byStatus.get(criteria.status()));
+        int domainSize = criteria.emailDomain() == null ? Integer.MAX_VALUE : size(byDomain.get(criteria.emailDomain()));
+        int nameSize = criteria.namePrefix() == null ? Integer.MAX_VALUE : byName.count(criteria.namePrefix());
+
+        if (nameSize < statusSize && nameSize < domainSize) {
+            return fromName(criteria, from, limit);
+        }
+        Postings smallest = statusSize <= domainSize
+                ? byStatus.get(criteria.status())
+                : byDomain.get(criteria.emailDomain());
+        List<Long> ids = new ArrayList<>(limit);
+        if (smallest == null) {
+            return ids;
+        }
+        for (Long id : smallest.ids().tailSet(from, false)) {
+            if (matches(criteria, id)) {
+                ids.add(id);
+                if (ids.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Index items after their change committed.
+     *
+     * @param changed - search fields of the items as committed
+     */
+    public synchronized void putAll(Collection<Entry> changed) {
+        for (Entry entry : changed) {
+            put(entry);
+        }
+    }
+
+    /**
+     * Drop items after their deletion committed.
+     *
+     * @param ids - deleted item ids
+     */
+    public synchronized void removeAll(Collection<Long> ids) {
+        for (Long id : ids) {
+            Entry old = entries.remove(id);
+            if (old != null) {
+                unlink(old);
+            }
+            if (building) {
+                deletedDuringBuild.add(id);
+            }
+        }
+    }
+
+    /**
+     * (Re)build the index from the item table, if enabled. Searches use the database until it is done;
+     * changes committed meanwhile are applied as they come.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        synchronized (this) {
+            ready = false;
+            building = true;
+            entries.clear();
+            byStatus.clear();
+            byDomain.clear();
+            byName.clear();
+        }
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(SELECT_ENTRIES);
+                statement.setFetchSize(1000);
+                return statement;
+            }, rs -> {
+                long version = rs.getLong(5);
+                Entry entry = new Entry(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.wasNull() ? null : version);
+                synchronized (this) {
+                    if (!deletedDuringBuild.contains(entry.id())) {
+                        put(entry);
+                    }
+                }
+            });
+        } finally {
+            synchronized (this) {
+                building = false;
+                deletedDuringBuild.clear();
+            }
+        }
+        ready = true;
+        log.info("Indexed {} items for search in {} ms", entries.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private List<Long> fromName(ItemSearchCriteria criteria, long from, int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        PrimitiveIterator.OfLong candidates = byName.ids(criteria.namePrefix(), from);
+        long last = from;
+        while (candidates.hasNext() && ids.size() < limit) {
+            long id = candidates.nextLong();
+            // an item renamed mid-read may show up under both names
+            if (id != last && matches(criteria, id)) {
+                ids.add(id);
+            }
+            last = id;
+        }
+        return ids;
+    }
+
+    private boolean matches(ItemSearchCriteria criteria, long id) {
+        Entry entry = entries.get(id);
+        return entry != null && criteria.matches(entry.status(), entry.emailDomain(), entry.name());
+    }
+
+    private void put(Entry entry) {
+        Entry old = entries.get(entry.id());
+        if (old != null) {
+            if (!entry.isNewerThan(old)) {
+                return;
+            }
+            unlink(old);
+        }
+        entries.put(entry.id(), entry);
+        link(byStatus, entry.status(), entry.id());
+        link(byDomain, entry.emailDomain(), entry.id());
+        if (entry.name() != null) {
+            byName.add(entry.name(), entry.id());
+        }
+    }
+
+    private void unlink(Entry entry) {
+        unlink(byStatus, entry.status(), entry.id());
+        unlink(byDomain, entry.emailDomain(), entry.id());
+        if (entry.name() != null) {
+            byName.remove(entry.name(), entry.id());
+        }
+    }
+
+    private static void link(Map<String, Postings> index, String key, long id) {
+        if (key != null) {
+            Postings postings = index.computeIfAbsent(key, k -> new Postings());
+            if (postings.ids().add(id)) {
+                postings.size().incrementAndGet();
+            }
+        }
+    }
+
+    private static void unlink(Map<String, Postings> index, String key, long id) {
+        Postings postings = key == null ? null : index.get(key);
+        if (postings != null && postings.ids().remove(id) && postings.size().decrementAndGet() == 0) {
+            index.remove(key);
+        }
+    }
+
+    private static int size(Postings postings) {
+        return postings == null ? 0 : postings.size().get();
+    }
+}
@@ -0,0 +1,159 @@
+package com.siemens.internship.index;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Character trie of item names. Each node counts the names below it, so the size of a prefix's
+ * result is known after walking the prefix, before collecting anything. The ids of the names ending
+ * at a node are kept in id order, so a page under a prefix is a lazy merge of those sorted sets
+ * starting at the cursor, not a collect-and-sort of the whole subtree.
+ * Child maps and id sets are only allocated on the nodes that need them.
+ * Writes must be serialized by the caller; reads may run concurrently with them and see either state.
+ */
+final class NamePrefixTrie {
+
+    private static final class Node {
+        volatile Map<Character, Node> children;
+        volatile ConcurrentSkipListSet<Long> ids;
+        final AtomicInteger size = new AtomicInteger();
+
+        Node child(char c) {
+            Map<Character, Node> map = children;
+            return map == null ? null : map.get(c);
+        }
+    }
+
+    private final Node root = new Node();
+
+    void add(String name, long id) {
+        Node node = root;
+        node.size.incrementAndGet();
+        for (int i = 0; i < name.length(); i++) {
+            if (node.children == null) {
+                node.children = new ConcurrentHashMap<>(4);
+            }
+            node = node.children.computeIfAbsent(name.charAt(i), c -> new Node());
+            node.size.incrementAndGet();
+        }
+        if (node.ids == null) {
+            node.ids = new ConcurrentSkipListSet<>();
+        }
+        node.ids.add(id);
+    }
+
+    void remove(String name, long id) {
+        Node node = root;
+        node.size.decrementAndGet();
+        for (int i = 0; i < name.length(); i++) {
+            Node child = node.child(name.charAt(i));
+            if (child.size.decrementAndGet() == 0) {
+                node.children.remove(name.charAt(i));
+            }
+            node = child;
+        }
+        node.ids.remove(id);
+    }
+
+    /**
+     * @param prefix - name prefix
+     * @return number of names starting with the prefix
+     */
+    int count(String prefix) {
+        Node node = find(prefix);
+        return node == null ? 0 : node.size.get();
+    }
+
+    /**
+     * @param prefix - name prefix
+     * @param after  - only ids greater than this are returned
+     * @return ids of names starting with the prefix, in ascending order, merged as they are consumed
+     */
+    PrimitiveIterator.OfLong ids(String prefix, long after) {
+        Node node = find(prefix);
+        return new MergingIterator(node == null ? Collections.emptyList() : postings(node, after));
+    }
+
+    void clear() {
+        root.children = null;
+        root.ids = null;
+        root.size.set(0);
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static Deque<Iterator<Long>> postings(Node top, long after) {
+        Deque<Iterator<Long>> postings = new ArrayDeque<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(top);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            ConcurrentSkipListSet<Long> ids = node.ids;
+            if (ids != null) {
+                Iterator<Long> tail = ids.tailSet(after, false).iterator();
+                if (tail.hasNext()) {
+                    postings.add(tail);
+                }
+            }
+            Map<Character, Node> children = node.children;
+            if (children != null) {
+                children.values().forEach(pending::push);
+            }
+        }
+        return postings;
+    }
+
+    /**
+     * K-way merge of ascending id iterators.
+     */
+    private static final class MergingIterator implements PrimitiveIterator.OfLong {
+
+        private record Head(long id, Iterator<Long> rest) {
+        }
+
+        private final PriorityQueue<Head> heads;
+
+        MergingIterator(Iterable<Iterator<Long>> postings) {
+            heads = new PriorityQueue<>((a, b) -> Long.compare(a.id(), b.id()));
+            for (Iterator<Long> ids : postings) {
+                advance(ids);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public long nextLong() {
+            Head head = heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            advance(head.rest());
+            return head.id();
+        }
+
+        private void advance(Iterator<Long> ids) {
+            if (ids.hasNext()) {
+                heads.add(new Head(ids.next(), ids));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.siemens.internship.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * An item whose processing still failed after all retries, kept with its cause until it is replayed.
+ * At most one row per item: a repeated failure updates the existing row.
+ */
+@Entity
+@Table(name = "dead_letter_item", uniqueConstraints = @UniqueConstraint(columnNames = "item_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class DeadLetterItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dead_letter_seq")
+    @SequenceGenerator(name = "dead_letter_seq", sequenceName = "dead_letter_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    /**
+     * Attempts made so far, over all runs and replays.
+     */
+    private int attempts;
+
+    /**
+     * Class name of the root cause; what clients see of the failure.
+     */
+    private String errorType;
+
+    /**
+     * Message of the root cause, for operators only: it may carry SQL, hosts or data, so it stays out of the JSON.
+     */
+    @JsonIgnore
+    @Column(length = 2000)
+    private String errorMessage;
+
+    private Instant firstFailedAt;
+
+    private Instant lastFailedAt;
+
+    /**
+     * @param itemId - failed item
+     */
+    public DeadLetterItem(Long itemId) {
+        this.itemId = itemId;
+    }
+}
@@ -1,34 +1,58 @@
 package com.siemens.internship.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.siemens.internship.validation.ValidEmail;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
-import lombok.AllArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Instant;
+import java.util.Locale;
+
 /**
  * This is the model class for an item to be processed in the Internship Application.
  * It contains name, description and email as metadata,and processing status.
+ * Updates write every column (no @DynamicUpdate): identical statements are what lets Hibernate
+ * send the updates of updateAll and writeProcessed as one JDBC batch.
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_item_processing_state_id", columnList = "processing_state, id"),
+        // search filters, each followed by id for keyset pagination
+        @Index(name = "idx_item_status_id", columnList = "status, id"),
+        @Index(name = "idx_item_email_domain_id", columnList = "email_domain, id"),
+        @Index(name = "idx_item_name_id", columnList = "name, id")})
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
 public class Item {
     /**
      * Unique identifier, it is auto-generated.
+     * Uses a pooled sequence (allocationSize 50): Hibernate reserves a block of ids per
+     * sequence call, so batched inserts don't hit the sequence for every row.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_seq")
+    @SequenceGenerator(name = "item_seq", sequenceName = "item_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -50,12 +74,110 @@ public class Item {
     @NotBlank(message = "Status is required")
     private String status;
 
+    /**
+     * Indexed, enum-backed processing state derived from status; kept in sync by setStatus().
+     * Internal only, not part of the JSON representation.
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "processing_state", nullable = false, length = 16)
+    private ProcessingState processingState = ProcessingState.PENDING;
+
+    /**
+     * Optimistic lock version; concurrent writers (e.g. several nodes processing the same row)
+     * fail with an OptimisticLockException instead of silently overwriting each other.
+     * Read-only in JSON: clients can see it but never set it.
+     */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    /**
+     * Time of the last write, maintained by Hibernate.
+     * Served as Last-Modified on single-item GETs; read-only in JSON.
+     */
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant lastModified;
+
     /**
      * Email address; required; must be valid format, checked using our custom @ValidEmail annotation
-     * Email checked using regex:
+     * Email checked by a single pass scanner equivalent to the regex:
      * "^(?=.{1,64}@)[A-Za-z0-9_-]+(\\.[A-Za-z0-9_-]+)*@[^-][A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)*(\\.[A-Za-z]{2,})$"
      */
     @NotBlank(message = "Email is required")
     @ValidEmail(message = "Email must be valid: example@domain.com")
     private String email;
-}
\ No newline at end of file
+
+    /**
+     * Lower-cased part of the email after the '@', derived from email; kept in sync by setEmail().
+     * Stored so the domain filter of the search is an index lookup, not a LIKE '%@domain' scan.
+     * Internal only, not part of the JSON representation.
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "email_domain")
+    private String emailDomain;
+
+    /**
+     * @param id          - identifier, null for new items
+     * @param name        - name
+     * @param description - description
+     * @param status      - free-form status
+     * @param email       - email address
+     */
+    public Item(Long id, String name, String description, String status, String email) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        setEmail(email);
+        setStatus(status);
+    }
+
+    /**
+     * Set the status and derive the processing state from it.
+     *
+     * @param status - free-form status
+     */
+    public void setStatus(String status) {
+        this.status = status;
+        this.processingState = ProcessingState.of(status);
+    }
+
+    /**
+     * Set the email and derive the email domain from it.
+     *
+     * @param email - email address
+     */
+    public void setEmail(String email) {
+        this.email = email;
+        this.emailDomain = domainOf(email);
+    }
+
+    /**
+     * @param email - email address, may be null or malformed
+     * @return lower-cased text after the last '@', or null if there is none
+     */
+    public static String domainOf(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        return at < 0 ? null : email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Detached field-by-field copy, used wherever an instance must not be shared
+     * (e.g. the item cache), since Item is a mutable entity.
+     *
+     * @return a new Item with the same field values
+     */
+    public Item copy() {
+        Item copy = new Item(id, name, description, status, email);
+        copy.version = version;
+        copy.lastModified = lastModified;
+        return copy;
+    }
+}
@@ -0,0 +1,78 @@
+package com.siemens.internship.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * One entry of the item change feed (outbox), written in the same transaction as the change itself.
+ * Entries are numbered by seq, increasing in insertion order, so a consumer can resume after the last seq it saw.
+ * Each seq is drawn from the database sequence by the INSERT itself: a pooled block
+ * per JVM would let one node write seq 5 after another already wrote seq 60, which a consumer past 60 never sees.
+ * Rows are inserted by ItemChangeLog through JDBC batches; the mapping is read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "item_change")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ItemChange {
+
+    /**
+     * Kind of change.
+     */
+    public enum Type { CREATED, UPDATED, DELETED, PROCESSED }
+
+    /**
+     * Set by ItemChangeLog's INSERT (NEXT VALUE FOR item_change_seq); the generator only declares the sequence
+     * to the schema tooling.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_change_seq")
+    @SequenceGenerator(name = "item_change_seq", sequenceName = "item_change_seq", allocationSize = 1)
+    private Long seq;
+
+    @Column(nullable = false)
+    private Long itemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Type type;
+
+    /**
+     * Item version after the change, null for deletions.
+     */
+    private Long itemVersion;
+
+    /**
+     * Start of the writing transaction by the database clock (column default CURRENT_TIMESTAMP),
+     * so every node stamps its entries from the same clock. Not monotonic in seq.
+     */
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Instant recordedAt;
+
+    /**
+     * JSON of the item after the change, null for deletions; served as a nested object.
+     */
+    @JsonRawValue
+    @JsonProperty("item")
+    @Column(length = 4000)
+    private String payload;
+}
@@ -0,0 +1,19 @@
+package com.siemens.internship.model;
+
+/**
+ * Number of items sharing a status and an email domain; one row of a GROUP BY status, email_domain.
+ *
+ * @param status      - status
+ * @param emailDomain - email domain, may be null
+ * @param count       - number of items
+ */
+public record ItemGroupCount(String status, String emailDomain, long count) {
+
+    /**
+     * @param item - item
+     * @return a count of one for the item's status and domain
+     */
+    public static ItemGroupCount of(Item item) {
+        return new ItemGroupCount(item.getStatus(), item.getEmailDomain(), 1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.siemens.internship.model;
+
+import java.util.Locale;
+
+/**
+ * Filters of GET /api/items/search; every non-null filter must match.
+ * Blank filters count as absent.
+ *
+ * @param status      - exact status
+ * @param emailDomain - email domain, case-insensitive (stored lower-cased)
+ * @param namePrefix  - case-sensitive prefix of the name
+ */
+public record ItemSearchCriteria(String status, String emailDomain, String namePrefix) {
+
+    public ItemSearchCriteria {
+        status = blankToNull(status);
+        emailDomain = blankToNull(emailDomain);
+        if (emailDomain != null) {
+            emailDomain = emailDomain.toLowerCase(Locale.ROOT);
+        }
+        namePrefix = blankToNull(namePrefix);
+    }
+
+    /**
+     * @return true if no filter is set
+     */
+    public boolean isEmpty() {
+        return status == null && emailDomain == null && namePrefix == null;
+    }
+
+    /**
+     * @param item - item to check
+     * @return true if the item passes every filter
+     */
+    public boolean matches(Item item) {
+        return matches(item.getStatus(), item.getEmailDomain(), item.getName());
+    }
+
+    /**
+     * @param itemStatus      - status of the item
+     * @param itemEmailDomain - email domain of the item
+     * @param itemName        - name of the item
+     * @return true if an item with these values passes every filter
+     */
+    public boolean matches(String itemStatus, String itemEmailDomain, String itemName) {
+        return (status == null || status.equals(itemStatus))
+                && (emailDomain == null || emailDomain.equals(itemEmailDomain))
+                && (namePrefix == null || (itemName != null && itemName.startsWith(namePrefix)));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
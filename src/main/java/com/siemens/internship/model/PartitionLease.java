@@ -0,0 +1,51 @@
+package com.siemens.internship.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Lease on a fixed id-range partition of the item table.
+ * A node may only process items of a partition while it owns an unexpired lease on it;
+ * leases are renewed by heartbeats and expire if the owner dies.
+ */
+@Entity
+@Table(name = "partition_lease")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PartitionLease {
+    /**
+     * Partition number; the partition covers ids [rangeStart, rangeEnd).
+     */
+    @Id
+    private Long partitionId;
+
+    private long rangeStart;
+
+    private long rangeEnd;
+
+    /**
+     * Node currently holding the lease, null when free.
+     */
+    private String owner;
+
+    /**
+     * Lease expiry; after this instant other nodes may take the partition over.
+     */
+    private Instant leaseUntil;
+
+    /**
+     * Last time the owner renewed the lease.
+     */
+    private Instant heartbeatAt;
+
+    @Version
+    private Long version;
+}
@@ -0,0 +1,25 @@
+package com.siemens.internship.model;
+
+/**
+ * Normalized processing state of an item, derived from its free-form status.
+ * Stored as an indexed column so pending work can be selected without scanning
+ * (and upper-casing) every status.
+ */
+public enum ProcessingState {
+    /**
+     * Any status other than PROCESSED: still has to be processed.
+     */
+    PENDING,
+    /**
+     * Status is PROCESSED (case-insensitive).
+     */
+    PROCESSED;
+
+    /**
+     * @param status - free-form item status
+     * @return PROCESSED for "PROCESSED" in any case, PENDING otherwise
+     */
+    public static ProcessingState of(String status) {
+        return "PROCESSED".equalsIgnoreCase(status) ? PROCESSED : PENDING;
+    }
+}
@@ -0,0 +1,31 @@
+package com.siemens.internship.processing;
+
+import com.siemens.internship.model.Item;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Trims the email and lower-cases it, so the same address is always stored the same way.
+ * Enabled with items.processing.normalize-email=true.
+ */
+@Component
+@Order(100)
+@ConditionalOnProperty(name = "items.processing.normalize-email", havingValue = "true")
+public class EmailNormalizingProcessor implements ItemProcessor {
+
+    @Override
+    public Item process(Item item) {
+        if (item.getEmail() != null) {
+            item.setEmail(item.getEmail().trim().toLowerCase(Locale.ROOT));
+        }
+        return item;
+    }
+
+    @Override
+    public String name() {
+        return "normalize-email";
+    }
+}
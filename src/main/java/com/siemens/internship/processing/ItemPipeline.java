@@ -0,0 +1,125 @@
+package com.siemens.internship.processing;
+
+import com.siemens.internship.config.ExecutorConfig;
+import com.siemens.internship.model.Item;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ordered chain of every ItemProcessor bean.
+ * Consecutive processors of the same kind are fused into one segment that runs as a single task,
+ * so a pipeline only switches threads where it switches between CPU and IO work:
+ * CPU segments run on the ForkJoin pool (one thread per core), IO segments on their own IO executor,
+ * and neither heavy transforms nor slow remote calls hold a thread of the DB-capped item executor.
+ */
+@Component
+public class ItemPipeline {
+
+    private record Stage(ItemProcessor processor, Timer timer) {
+    }
+
+    private record Segment(ItemProcessor.Kind kind, List<Stage> stages) {
+    }
+
+    private final List<Segment> segments;
+    private final ForkJoinPool cpuPool;
+    private final ExecutorService ioExecutor;
+
+    /**
+     * @param processors - stages in execution order (Spring sorts them by @Order)
+     * @param cpuPool    - pool for CPU stages
+     * @param ioExecutor - executor for IO stages
+     * @param registry   - receives the items.processing.stage timers
+     */
+    public ItemPipeline(List<ItemProcessor> processors,
+                        @Qualifier(ExecutorConfig.ITEM_CPU_POOL) ForkJoinPool cpuPool,
+                        @Qualifier(ExecutorConfig.ITEM_IO_EXECUTOR) ExecutorService ioExecutor,
+                        MeterRegistry registry) {
+        this.cpuPool = cpuPool;
+        this.ioExecutor = ioExecutor;
+        this.segments = fuse(processors, registry);
+    }
+
+    /**
+     * Run the item through every stage.
+     *
+     * @param item - item to transform
+     * @return future of the transformed item, or of null if a stage dropped it;
+     * completes exceptionally if a stage throws
+     */
+    public CompletableFuture<Item> apply(Item item) {
+        CompletableFuture<Item> result = CompletableFuture.completedFuture(item);
+        for (Segment segment : segments) {
+            Executor executor = segment.kind() == ItemProcessor.Kind.CPU ? cpuPool : ioExecutor;
+            result = result.thenApplyAsync(current -> current == null ? null : run(segment, current), executor);
+        }
+        return result;
+    }
+
+    /**
+     * @return stage names in execution order, grouped by fused segment
+     */
+    public List<List<String>> describe() {
+        return segments.stream()
+                .map(segment -> segment.stages().stream().map(stage -> stage.processor().name()).toList())
+                .toList();
+    }
+
+    private static Item run(Segment segment, Item item) {
+        Item current = item;
+        for (Stage stage : segment.stages()) {
+            long start = System.nanoTime();
+            try {
+                current = stage.processor().process(current);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                stage.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            if (current == null) {
+                break; // dropped, skip the remaining stages
+            }
+        }
+        return current;
+    }
+
+    private static List<Segment> fuse(List<ItemProcessor> processors, MeterRegistry registry) {
+        List<Segment> fused = new ArrayList<>();
+        List<Stage> stages = new ArrayList<>();
+        ItemProcessor.Kind kind = null;
+        for (ItemProcessor processor : processors) {
+            if (kind != null && processor.kind() != kind) {
+                fused.add(new Segment(kind, List.copyOf(stages)));
+                stages.clear();
+            }
+            kind = processor.kind();
+            stages.add(new Stage(processor, Timer.builder("items.processing.stage")
+                    .description("Time spent in one item processing stage")
+                    .tag("stage", processor.name())
+                    .tag("kind", kind.name().toLowerCase(Locale.ROOT))
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(registry)));
+        }
+        if (!stages.isEmpty()) {
+            fused.add(new Segment(kind, List.copyOf(stages)));
+        }
+        return List.copyOf(fused);
+    }
+}
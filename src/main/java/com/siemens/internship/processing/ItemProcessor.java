@@ -0,0 +1,39 @@
+package com.siemens.internship.processing;
+
+import com.siemens.internship.model.Item;
+
+/**
+ * One per-item transform step (normalize a field, enrich, route, ...).
+ * Every ItemProcessor bean is picked up by ItemPipeline and run in @Order order;
+ * consecutive processors of the same kind are fused and run as one task.
+ */
+public interface ItemProcessor {
+
+    /**
+     * Where a processor runs.
+     * CPU: pure computation, on the ForkJoin pool sized to the cores.
+     * IO: blocking calls (HTTP, sleep), on the IO executor, apart from the DB-capped item executor.
+     */
+    enum Kind { CPU, IO }
+
+    /**
+     * @param item - item to transform; may be modified in place
+     * @return the item to hand to the next stage, or null to drop it (it is then not saved)
+     * @throws Exception to fail this item
+     */
+    Item process(Item item) throws Exception;
+
+    /**
+     * @return the pool this processor needs, CPU by default
+     */
+    default Kind kind() {
+        return Kind.CPU;
+    }
+
+    /**
+     * @return stage name used in the items.processing.stage timer
+     */
+    default String name() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,25 @@
+package com.siemens.internship.processing;
+
+import com.siemens.internship.model.Item;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Last stage of every pipeline: flags the item as PROCESSED.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class MarkProcessedProcessor implements ItemProcessor {
+
+    @Override
+    public Item process(Item item) {
+        item.setStatus("PROCESSED");
+        return item;
+    }
+
+    @Override
+    public String name() {
+        return "mark-processed";
+    }
+}
@@ -0,0 +1,37 @@
+package com.siemens.internship.processing;
+
+import com.siemens.internship.model.Item;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stand-in for a slow external call (the Thread.sleep the processing used to hardcode).
+ * Disabled with items.processing.simulated-work-ms=0.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SimulatedWorkProcessor implements ItemProcessor {
+
+    @Value("${items.processing.simulated-work-ms:100}")
+    private long simulatedWorkMs = 100;
+
+    @Override
+    public Item process(Item item) throws InterruptedException {
+        if (simulatedWorkMs > 0) {
+            Thread.sleep(simulatedWorkMs);
+        }
+        return item;
+    }
+
+    @Override
+    public Kind kind() {
+        return Kind.IO;
+    }
+
+    @Override
+    public String name() {
+        return "simulated-work";
+    }
+}
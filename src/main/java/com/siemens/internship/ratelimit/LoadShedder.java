@@ -0,0 +1,76 @@
+package com.siemens.internship.ratelimit;
+
+import com.siemens.internship.config.ExecutorConfig;
+import com.siemens.internship.config.LimitedExecutorService;
+import com.siemens.internship.utils.ServiceOverloadedException;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Rejects new write and processing work while the item executor or the connection pool is backed up,
+ * instead of queueing it behind the backlog: shed requests fail fast with 503, and reads, which don't
+ * go through here, keep getting connections within their usual latency.
+ */
+@Component
+public class LoadShedder {
+
+    @Autowired
+    @Qualifier(ExecutorConfig.ITEM_EXECUTOR)
+    private LimitedExecutorService executor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * Item tasks queued (not yet running) above which endpoints using the executor are shed.
+     */
+    @Value("${items.load-shedding.max-queued-tasks:5000}")
+    private int maxQueuedTasks = 5000;
+
+    /**
+     * Threads waiting for a JDBC connection above which every limited endpoint is shed.
+     */
+    @Value("${items.load-shedding.max-waiting-connections:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int maxWaitingConnections = 10;
+
+    /**
+     * Retry-After sent with a shed request.
+     */
+    @Value("${items.load-shedding.retry-after:PT2S}")
+    private Duration retryAfter = Duration.ofSeconds(2);
+
+    /**
+     * @param usesExecutor - true if the request would queue work on the item executor
+     * @throws ServiceOverloadedException if the request should be shed
+     */
+    public void checkCapacity(boolean usesExecutor) {
+        if (usesExecutor && executor.getQueuedCount() >= maxQueuedTasks) {
+            throw new ServiceOverloadedException("Item executor is saturated", retryAfter);
+        }
+        HikariPoolMXBean pool = hikariPool();
+        if (pool != null && pool.getThreadsAwaitingConnection() >= maxWaitingConnections) {
+            throw new ServiceOverloadedException("Database connection pool is saturated", retryAfter);
+        }
+    }
+
+    /**
+     * @return the Hikari pool statistics, or null for another pool or a pool not started yet
+     */
+    private HikariPoolMXBean hikariPool() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean()
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.siemens.internship.ratelimit;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies load shedding and the per-client rate limit to controller methods marked with RateLimited,
+ * before any work is done. Overload is checked first, so a shed request doesn't use up a token.
+ * The client is identified by its remote address.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+    private final LoadShedder loadShedder;
+
+    /**
+     * @param rateLimiter - per endpoint and client token buckets
+     * @param loadShedder - executor and connection pool saturation check
+     */
+    public RateLimitInterceptor(RateLimiter rateLimiter, LoadShedder loadShedder) {
+        this.rateLimiter = rateLimiter;
+        this.loadShedder = loadShedder;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // the dispatch that writes an async result was admitted already
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        RateLimited limit = method.getMethodAnnotation(RateLimited.class);
+        if (limit != null) {
+            loadShedder.checkCapacity(limit.usesExecutor());
+            rateLimiter.acquire(limit.value(), request.getRemoteAddr());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,25 @@
+package com.siemens.internship.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method whose calls are rate limited per client (see RateLimiter)
+ * and shed with 503 while the application is overloaded (see LoadShedder).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    /**
+     * @return endpoint name; items.rate-limit.&lt;name&gt;.* configure its bucket
+     */
+    String value();
+
+    /**
+     * @return true if the endpoint queues work on the item executor, so a backed-up executor sheds it too
+     */
+    boolean usesExecutor() default false;
+}
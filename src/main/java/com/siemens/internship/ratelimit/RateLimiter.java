@@ -0,0 +1,87 @@
+package com.siemens.internship.ratelimit;
+
+import com.siemens.internship.utils.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * One token bucket per endpoint and client. Endpoint limits come from
+ * items.rate-limit.&lt;endpoint&gt;.capacity / refill-per-second, falling back to items.rate-limit.default.*.
+ * Buckets of idle clients are dropped once more than max-clients are held, so a scan over many
+ * source addresses can't grow the map without bound.
+ */
+@Component
+public class RateLimiter {
+
+    @Autowired
+    private Environment environment;
+
+    /**
+     * Apply the limits; when off, every request passes.
+     */
+    @Value("${items.rate-limit.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${items.rate-limit.default.capacity:100}")
+    private int defaultCapacity = 100;
+
+    @Value("${items.rate-limit.default.refill-per-second:50}")
+    private double defaultRefillPerSecond = 50;
+
+    /**
+     * Buckets held before idle (full) ones are dropped.
+     */
+    @Value("${items.rate-limit.max-clients:10000}")
+    private int maxClients = 10000;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Time of the last sweep for idle buckets; sweeps run at most once per second.
+     */
+    private final AtomicLong sweptAt = new AtomicLong(System.nanoTime());
+
+    private LongSupplier clock = System::nanoTime;
+
+    /**
+     * Take a token from the client's bucket of the endpoint.
+     *
+     * @param endpoint - endpoint name, see RateLimited
+     * @param client   - client key, e.g. its address
+     * @throws TooManyRequestsException if the bucket is empty, with the time until the next token
+     */
+    public void acquire(String endpoint, String client) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long swept = sweptAt.get();
+        if (buckets.size() >= maxClients && now - swept >= 1_000_000_000L && sweptAt.compareAndSet(swept, now)) {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+        TokenBucket bucket = buckets.computeIfAbsent(endpoint + ' ' + client, key -> new TokenBucket(
+                environment.getProperty("items.rate-limit." + endpoint + ".capacity", Integer.class, defaultCapacity),
+                environment.getProperty("items.rate-limit." + endpoint + ".refill-per-second", Double.class,
+                        defaultRefillPerSecond),
+                now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException("Rate limit of " + endpoint + " exceeded", Duration.ofNanos(waitNanos));
+        }
+    }
+
+    /**
+     * @return number of buckets held
+     */
+    public int size() {
+        return buckets.size();
+    }
+}
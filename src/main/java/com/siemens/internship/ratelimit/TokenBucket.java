@@ -0,0 +1,61 @@
+package com.siemens.internship.ratelimit;
+
+/**
+ * Token bucket: holds up to capacity tokens, refilled continuously at a fixed rate;
+ * each request takes one. A full bucket lets a burst of capacity requests through,
+ * after which requests pass at the refill rate.
+ */
+public final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    /**
+     * @param capacity        - burst size, must be positive
+     * @param refillPerSecond - sustained rate, must be positive
+     * @param now             - current time in nanoseconds; the bucket starts full
+     */
+    public TokenBucket(int capacity, double refillPerSecond, long now) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive, got "
+                    + capacity + " and " + refillPerSecond);
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    /**
+     * Take a token if one is available.
+     *
+     * @param now - current time in nanoseconds
+     * @return 0 if a token was taken, otherwise the nanoseconds until the next one is available
+     */
+    public synchronized long tryAcquire(long now) {
+        refill(now);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+
+    /**
+     * @param now - current time in nanoseconds
+     * @return true if the bucket refilled completely, i.e. its client has been idle for a while
+     */
+    public synchronized boolean isFull(long now) {
+        refill(now);
+        return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        if (now > refilledAt) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.DeadLetterItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA repository for dead-lettered items.
+ */
+public interface DeadLetterItemRepository extends JpaRepository<DeadLetterItem, Long> {
+
+    /**
+     * @param itemId - item ID
+     * @return the dead letter of that item, if any
+     */
+    Optional<DeadLetterItem> findByItemId(Long itemId);
+
+    /**
+     * @param pageable - page size; use page 0
+     * @return oldest dead letters first
+     */
+    List<DeadLetterItem> findAllByOrderByIdAsc(Pageable pageable);
+}
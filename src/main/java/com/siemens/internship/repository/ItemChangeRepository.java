@@ -0,0 +1,46 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.ItemChange;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * JPA repository for the item change feed.
+ */
+public interface ItemChangeRepository extends JpaRepository<ItemChange, Long> {
+
+    /**
+     * Keyset page of the change feed, by primary key.
+     * @param since - last seq already seen (exclusive)
+     * @param pageable - carries the page size; use page 0
+     * @return changes in seq order
+     */
+    @Query("SELECT c FROM ItemChange c WHERE c.seq > :since ORDER BY c.seq")
+    List<ItemChange> findPageAfter(@Param("since") Long since, Pageable pageable);
+
+    /**
+     * Every change after since, read through a JDBC cursor. Must be consumed inside a transaction.
+     * @param since - last seq already seen (exclusive)
+     * @return lazily populated stream of changes in seq order
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT c FROM ItemChange c WHERE c.seq > :since ORDER BY c.seq")
+    Stream<ItemChange> streamAfter(@Param("since") Long since);
+
+    /**
+     * @return current time by the database clock, the one recordedAt is taken from
+     */
+    @Query("SELECT CURRENT_INSTANT")
+    Instant currentInstant();
+}
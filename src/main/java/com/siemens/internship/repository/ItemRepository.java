@@ -1,19 +1,142 @@
 package com.siemens.internship.repository;
 
 import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemGroupCount;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * JPA repository for Item entities.
  */
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemSearchRepository, ItemUpdateRepository {
     /**
      * Retrieves all Item IDs (for batch processing).
      * @return list of all item IDs
      */
     @Query("SELECT id FROM Item")
     List<Long> findAllIds();
-}
\ No newline at end of file
+
+    /**
+     * IDs of items still waiting to be processed, served by the (processing_state, id) index.
+     * @return pending item IDs in ascending order
+     */
+    @Query("SELECT i.id FROM Item i " +
+            "WHERE i.processingState = com.siemens.internship.model.ProcessingState.PENDING ORDER BY i.id")
+    List<Long> findPendingIds();
+
+    /**
+     * @return number of items still waiting to be processed
+     */
+    @Query("SELECT COUNT(i) FROM Item i " +
+            "WHERE i.processingState = com.siemens.internship.model.ProcessingState.PENDING")
+    long countPending();
+
+    /**
+     * Keyset page of pending items in (lastId, endExclusive), served by the (processing_state, id) index.
+     * @param lastId - keyset cursor (exclusive)
+     * @param endExclusive - upper bound of the id range (exclusive), e.g. end of a partition
+     * @param pageable - carries the chunk size; use page 0
+     * @return pending items in ascending id order
+     */
+    @Query("SELECT i FROM Item i " +
+            "WHERE i.processingState = com.siemens.internship.model.ProcessingState.PENDING " +
+            "AND i.id > :lastId AND i.id < :endExclusive ORDER BY i.id")
+    List<Item> findPendingInRange(@Param("lastId") Long lastId,
+                                  @Param("endExclusive") Long endExclusive,
+                                  Pageable pageable);
+
+    /**
+     * Keyset page of pending items (whole entities), for pipelines that transform items in memory.
+     * @param lastId - keyset cursor (exclusive)
+     * @param pageable - carries the page size; use page 0
+     * @return pending items in ascending id order
+     */
+    @Query("SELECT i FROM Item i " +
+            "WHERE i.processingState = com.siemens.internship.model.ProcessingState.PENDING " +
+            "AND i.id > :lastId ORDER BY i.id")
+    List<Item> findPendingAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Version of one item, without loading the row into the persistence context.
+     * @param id - item ID
+     * @return the version, empty if the item doesn't exist (or has none)
+     */
+    @Query("SELECT i.version FROM Item i WHERE i.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * @return highest item id, or null if the table is empty
+     */
+    @Query("SELECT MAX(i.id) FROM Item i")
+    Long findMaxId();
+
+    /**
+     * Locks those of the given items that are still pending, skipping rows another transaction
+     * already holds (SELECT ... FOR UPDATE SKIP LOCKED, lock timeout -2), so concurrent claimers
+     * neither wait on nor double-process the same rows. Must run inside a transaction.
+     * @param ids - candidate IDs
+     * @return the locked pending items
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT i FROM Item i " +
+            "WHERE i.id IN :ids AND i.processingState = com.siemens.internship.model.ProcessingState.PENDING")
+    List<Item> lockPending(@Param("ids") List<Long> ids);
+
+    /**
+     * Item counts per (status, email domain), for rebuilding the in-memory statistics in one query.
+     * @return one row per combination present in the table
+     */
+    @Query("SELECT new com.siemens.internship.model.ItemGroupCount(i.status, i.emailDomain, COUNT(i)) " +
+            "FROM Item i GROUP BY i.status, i.emailDomain")
+    List<ItemGroupCount> countByStatusAndEmailDomain();
+
+    /**
+     * Item counts per (status, email domain) among the given ids.
+     * @param ids - item IDs
+     * @return one row per combination present among them
+     */
+    @Query("SELECT new com.siemens.internship.model.ItemGroupCount(i.status, i.emailDomain, COUNT(i)) " +
+            "FROM Item i WHERE i.id IN :ids GROUP BY i.status, i.emailDomain")
+    List<ItemGroupCount> countByStatusAndEmailDomain(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset page of items: the next items with id strictly greater than after, in ascending id order.
+     * @param after - cursor (last id of the previous page)
+     * @param pageable - carries the page size; use page 0
+     * @return up to pageable.getPageSize() items
+     */
+    @Query("SELECT i FROM Item i WHERE i.id > :after ORDER BY i.id")
+    List<Item> findPageAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * Streams every item in id order through a JDBC cursor, fetching rows in small batches.
+     * Must be consumed (and closed) inside a transaction; entities are loaded read-only.
+     * @return lazily populated stream of items
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT i FROM Item i ORDER BY i.id")
+    Stream<Item> streamAllOrderedById();
+
+    /**
+     * Which of the given IDs exist, in one query.
+     * @param ids - candidate IDs
+     * @return the subset of ids present in the table
+     */
+    @Query("SELECT i.id FROM Item i WHERE i.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,22 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemSearchCriteria;
+
+import java.util.List;
+
+/**
+ * Search fragment of ItemRepository: a query built from the filters that are actually set,
+ * so each one can use its (column, id) index.
+ */
+public interface ItemSearchRepository {
+
+    /**
+     * Keyset page of the items matching every set filter.
+     * @param criteria - filters, at least one set
+     * @param after - cursor (last id of the previous page), null to start from the beginning
+     * @param limit - page size
+     * @return matching items in ascending id order
+     */
+    List<Item> search(ItemSearchCriteria criteria, Long after, int limit);
+}
@@ -0,0 +1,66 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemSearchCriteria;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria API implementation of {@link ItemSearchRepository}.
+ * Only the set filters become predicates (no "param IS NULL OR ..." terms, which keep the
+ * database from using an index), and the name prefix becomes a LIKE 'prefix%' range scan.
+ */
+public class ItemSearchRepositoryImpl implements ItemSearchRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Item> search(ItemSearchCriteria criteria, Long after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Item> query = cb.createQuery(Item.class);
+        Root<Item> item = query.from(Item.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.status() != null) {
+            predicates.add(cb.equal(item.get("status"), criteria.status()));
+        }
+        if (criteria.emailDomain() != null) {
+            predicates.add(cb.equal(item.get("emailDomain"), criteria.emailDomain()));
+        }
+        if (criteria.namePrefix() != null) {
+            predicates.add(cb.like(item.get("name"), escapeLike(criteria.namePrefix()) + "%", LIKE_ESCAPE));
+        }
+        if (after != null) {
+            predicates.add(cb.greaterThan(item.get("id"), after));
+        }
+
+        query.select(item)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(item.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.Item;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Update fragment of ItemRepository: overwrite an item without loading it first.
+ */
+public interface ItemUpdateRepository {
+
+    /**
+     * What an update replaced.
+     *
+     * @param status      - status before the update
+     * @param emailDomain - email domain before the update
+     * @param version     - version before the update, null if it had none
+     */
+    record Previous(String status, String emailDomain, Long version) {
+
+        /**
+         * @return version after the update
+         */
+        public long nextVersion() {
+            return version == null ? 1 : version + 1;
+        }
+    }
+
+    /**
+     * Overwrite the client-editable fields of an item, bump its version and set its last modification,
+     * in a single statement that also returns the replaced values, so no SELECT runs before it.
+     * The persistence context is bypassed: an instance of the item already loaded in it is stale afterwards.
+     * @param id - item ID
+     * @param changes - new name, description, status and email
+     * @param now - last modification time to store
+     * @return the replaced values, empty if the item doesn't exist
+     */
+    Optional<Previous> updateFields(Long id, Item changes, Instant now);
+}
@@ -0,0 +1,49 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ProcessingState;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Native implementation of {@link ItemUpdateRepository}. The UPDATE is wrapped in an H2 data change
+ * delta table (SELECT ... FROM OLD TABLE (UPDATE ...)), so one round trip both writes the row and
+ * returns the values it overwrote. Derived columns follow the same rules as Item's setters.
+ */
+public class ItemUpdateRepositoryImpl implements ItemUpdateRepository {
+
+    private static final String UPDATE_RETURNING_PREVIOUS =
+            "SELECT status, email_domain, version FROM OLD TABLE (" +
+            "UPDATE item SET name = :name, description = :description, status = :status, " +
+            "processing_state = :processingState, email = :email, email_domain = :emailDomain, " +
+            "version = COALESCE(version, 0) + 1, last_modified = :now " +
+            "WHERE id = :id)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Previous> updateFields(Long id, Item changes, Instant now) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(UPDATE_RETURNING_PREVIOUS)
+                .setParameter("name", changes.getName())
+                .setParameter("description", changes.getDescription())
+                .setParameter("status", changes.getStatus())
+                .setParameter("processingState", ProcessingState.of(changes.getStatus()).name())
+                .setParameter("email", changes.getEmail())
+                .setParameter("emailDomain", Item.domainOf(changes.getEmail()))
+                .setParameter("now", now)
+                .setParameter("id", id)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        return Optional.of(new Previous((String) row[0], (String) row[1],
+                row[2] == null ? null : ((Number) row[2]).longValue()));
+    }
+}
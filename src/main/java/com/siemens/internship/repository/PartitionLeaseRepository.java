@@ -0,0 +1,68 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.PartitionLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JPA repository for partition leases.
+ * Every state change is a single conditional UPDATE, so acquiring, renewing and releasing
+ * a lease are atomic compare-and-set operations across nodes.
+ */
+public interface PartitionLeaseRepository extends JpaRepository<PartitionLease, Long> {
+
+    /**
+     * @return highest partition number created so far, or null if none
+     */
+    @Query("SELECT MAX(l.partitionId) FROM PartitionLease l")
+    Long findMaxPartitionId();
+
+    /**
+     * Take the lease if it is free, expired, or already ours. Expiry is both checked and set on the
+     * database clock, so nodes with skewed clocks agree on when a lease runs out.
+     * @param partitionId - partition number
+     * @param owner - node id
+     * @param leaseMillis - lease duration from now
+     * @return 1 if the lease was acquired, 0 if another node holds it
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE partition_lease SET owner = :owner, " +
+            "lease_until = DATEADD('MILLISECOND', :leaseMillis, CURRENT_TIMESTAMP), " +
+            "heartbeat_at = CURRENT_TIMESTAMP, version = version + 1 " +
+            "WHERE partition_id = :partitionId " +
+            "AND (owner IS NULL OR lease_until < CURRENT_TIMESTAMP OR owner = :owner)", nativeQuery = true)
+    int tryAcquire(@Param("partitionId") Long partitionId, @Param("owner") String owner,
+                   @Param("leaseMillis") long leaseMillis);
+
+    /**
+     * Extend a lease we still own, to leaseMillis past the database's current time.
+     * @param partitionId - partition number
+     * @param owner - node id
+     * @param leaseMillis - lease duration from now
+     * @return 1 if renewed, 0 if the lease was lost (expired and taken over)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE partition_lease SET " +
+            "lease_until = DATEADD('MILLISECOND', :leaseMillis, CURRENT_TIMESTAMP), " +
+            "heartbeat_at = CURRENT_TIMESTAMP, version = version + 1 " +
+            "WHERE partition_id = :partitionId AND owner = :owner", nativeQuery = true)
+    int heartbeat(@Param("partitionId") Long partitionId, @Param("owner") String owner,
+                  @Param("leaseMillis") long leaseMillis);
+
+    /**
+     * Give a lease back so other nodes can take the partition immediately.
+     * @param partitionId - partition number
+     * @param owner - node id
+     * @return 1 if released, 0 if we no longer owned it
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PartitionLease l SET l.owner = NULL, l.leaseUntil = NULL, l.version = l.version + 1 " +
+            "WHERE l.partitionId = :partitionId AND l.owner = :owner")
+    int release(@Param("partitionId") Long partitionId, @Param("owner") String owner);
+}
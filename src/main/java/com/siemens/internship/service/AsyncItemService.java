@@ -0,0 +1,104 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.config.ExecutorConfig;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.utils.ServiceOverloadedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking front of the CRUD operations of ItemService for the asynchronous endpoints:
+ * each call runs on the bounded DB executor and the caller only gets a future, so a Tomcat worker
+ * isn't held while JPA waits on the database.
+ *
+ * Every future fails with a TimeoutException after the configured timeout. A call still queued by then
+ * is never started; one already running is not interrupted and its write may still commit, like a
+ * write behind any gateway timeout. A full executor queue fails fast with ServiceOverloadedException.
+ */
+@Service
+public class AsyncItemService {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    @Qualifier(ExecutorConfig.ITEM_DB_EXECUTOR)
+    private ExecutorService dbExecutor;
+
+    /**
+     * How long a caller waits for one operation, queueing included.
+     */
+    @Value("${items.async.timeout:PT10S}")
+    private Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * Retry-After sent when the executor queue is full.
+     */
+    @Value("${items.load-shedding.retry-after:PT2S}")
+    private Duration retryAfter = Duration.ofSeconds(2);
+
+    /**
+     * @param id - item ID
+     * @return future of the item; fails with ResourceNotFoundException if missing
+     */
+    public CompletableFuture<Item> findById(Long id) {
+        return submit(() -> itemService.findByIdOrThrow(id));
+    }
+
+    /**
+     * @param item - Item that is being written
+     * @return future of the written item
+     */
+    public CompletableFuture<Item> save(Item item) {
+        return submit(() -> itemService.save(item));
+    }
+
+    /**
+     * @param id   - ID of item to update
+     * @param item - data to apply
+     * @return future of the updated item; fails with ResourceNotFoundException if missing
+     */
+    public CompletableFuture<Item> updateItem(Long id, Item item) {
+        return submit(() -> itemService.updateItem(id, item));
+    }
+
+    /**
+     * @param id - ID of item to be deleted
+     * @return future completing once deleted; fails with ResourceNotFoundException if missing
+     */
+    public CompletableFuture<Void> deleteById(Long id) {
+        return submit(() -> {
+            itemService.deleteById(id);
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            dbExecutor.execute(() -> {
+                // timed out while queued: the caller is gone, don't start the work
+                if (result.isDone()) {
+                    return;
+                }
+                try {
+                    result.complete(call.get());
+                } catch (RuntimeException ex) {
+                    result.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            throw new ServiceOverloadedException("Database executor is saturated", retryAfter);
+        }
+        return result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
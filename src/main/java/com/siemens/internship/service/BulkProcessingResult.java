@@ -0,0 +1,18 @@
+package com.siemens.internship.service;
+
+/**
+ * Summary of a chunked bulk processing run.
+ *
+ * @param scanned - number of item IDs visited
+ * @param updated - number of items switched to PROCESSED
+ * @param chunks  - number of chunks (transactions) executed
+ */
+public record BulkProcessingResult(long scanned, long updated, int chunks) {
+
+    /**
+     * @return items that were visited but already processed
+     */
+    public long skipped() {
+        return scanned - updated;
+    }
+}
@@ -0,0 +1,11 @@
+package com.siemens.internship.service;
+
+/**
+ * Summary of a dead-letter replay.
+ *
+ * @param replayed  - dead letters picked up
+ * @param succeeded - items processed (or found already done) and removed from the dead-letter table
+ * @param failed    - items that failed again and stay dead-lettered
+ */
+public record DeadLetterReplayResult(int replayed, int succeeded, int failed) {
+}
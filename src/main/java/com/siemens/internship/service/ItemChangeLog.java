@@ -0,0 +1,273 @@
+package com.siemens.internship.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siemens.internship.index.ItemSearchIndex;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChange;
+import com.siemens.internship.repository.ItemChangeRepository;
+import com.siemens.internship.utils.BadRequestException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Transactional outbox of item changes.
+ * Writers append in their own transaction (MANDATORY), so an entry exists if and only if the change committed.
+ *
+ * Entries are inserted as one JDBC batch per call, each row drawing its seq from the database sequence
+ * inside the INSERT and recordedAt from the column default, so a bulk write pays one round trip
+ * for its entries however many there are.
+ *
+ * Ordering guarantee: sequence numbers come from the database sequence as each row is inserted, on every node,
+ * so seq follows insertion time across nodes. Transactions still commit in any order, so a lower seq can
+ * become visible after a higher one. Reads therefore walk the feed in seq order and stop at the first entry
+ * younger than a short settle time, measured on the database clock that stamps the entries: a consumer that
+ * resumes from the last seq it saw doesn't skip late commits as long as no write transaction runs longer
+ * than that. The cut happens in seq order, not by a time filter, since recordedAt is not monotonic in seq.
+ *
+ * It also keeps an in-memory change counter, bumped after each commit that appended to the log,
+ * which the collection ETag is derived from, and hands committed changes to the search index.
+ */
+@Component
+public class ItemChangeLog {
+
+    private static final String INSERT_CHANGE =
+            "INSERT INTO item_change (seq, item_id, type, item_version, payload) " +
+            "VALUES (NEXT VALUE FOR item_change_seq, ?, ?, ?, ?)";
+
+    @Autowired
+    private ItemChangeRepository changeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ItemSearchIndex searchIndex;
+
+    /**
+     * Entries younger than this are held back from readers, see the class comment.
+     */
+    @Value("${items.changes.settle-time:PT1S}")
+    private Duration settleTime = Duration.ofSeconds(1);
+
+    /**
+     * Largest page a client may request.
+     */
+    @Value("${items.page.max-limit:1000}")
+    private int maxPageSize = 1000;
+
+    /**
+     * Distinguishes counter values of different runs of this node.
+     */
+    private final long epoch = System.currentTimeMillis();
+
+    /**
+     * Changes committed through this node since startup.
+     */
+    private final AtomicLong committedChanges = new AtomicLong();
+
+    /**
+     * Append one change.
+     *
+     * @param type - kind of change
+     * @param item - item after the change (flushed, so its version is current)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ItemChange.Type type, Item item) {
+        insert(List.of(toChange(type, item)));
+        afterCommit(1, indexUpdate(List.of(item)));
+    }
+
+    /**
+     * Append one change per item, inserted as one JDBC batch.
+     *
+     * @param type  - kind of change
+     * @param items - items after the change (flushed, so their versions are current)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(ItemChange.Type type, Collection<Item> items) {
+        List<ItemChange> changes = new ArrayList<>(items.size());
+        for (Item item : items) {
+            changes.add(toChange(type, item));
+        }
+        insert(changes);
+        afterCommit(changes.size(), indexUpdate(items));
+    }
+
+    /**
+     * Append one DELETED change per id.
+     *
+     * @param ids - ids of the deleted items
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Collection<Long> ids) {
+        List<ItemChange> changes = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ItemChange change = new ItemChange();
+            change.setItemId(id);
+            change.setType(ItemChange.Type.DELETED);
+            changes.add(change);
+        }
+        insert(changes);
+        List<Long> deleted = List.copyOf(ids);
+        afterCommit(changes.size(), searchIndex.isEnabled() ? () -> searchIndex.removeAll(deleted) : null);
+    }
+
+    /**
+     * Version of the item collection as seen by this node: changes whenever a write committed here.
+     * Read it before querying, so a response is never labelled newer than its content.
+     * Writes made by other nodes only show up here once they write through this node too,
+     * so behind a load balancer clients may see a stale 304 until then.
+     *
+     * @return opaque collection version, usable as an ETag
+     */
+    public String getCollectionVersion() {
+        return epoch + "-" + committedChanges.get();
+    }
+
+    /**
+     * Keyset page of the feed.
+     *
+     * @param since - last seq already seen, null to start from the beginning
+     * @param limit - page size, between 1 and the configured maximum
+     * @return changes in seq order, up to the first one not settled yet
+     * @throws BadRequestException if the limit is out of range
+     */
+    public List<ItemChange> findSince(Long since, int limit) {
+        if (limit <= 0 || limit > maxPageSize) {
+            throw new BadRequestException("Limit must be between 1 and " + maxPageSize + ", got " + limit);
+        }
+        Instant settledBefore = settledBefore();
+        List<ItemChange> page = changeRepository.findPageAfter(since == null ? Long.MIN_VALUE : since,
+                PageRequest.of(0, limit));
+        for (int i = 0; i < page.size(); i++) {
+            if (!isSettled(page.get(i), settledBefore)) {
+                return page.subList(0, i);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Push the changes after since to the consumer in seq order, up to the first one not settled yet,
+     * through a DB cursor with flat memory use.
+     *
+     * @param since    - last seq already seen, null to start from the beginning
+     * @param consumer - receives each change; may throw to abort
+     * @return number of changes visited
+     */
+    @Transactional(readOnly = true)
+    public long forEachSince(Long since, Consumer<ItemChange> consumer) {
+        Instant settledBefore = settledBefore();
+        long count = 0;
+        try (Stream<ItemChange> changes = changeRepository.streamAfter(since == null ? Long.MIN_VALUE : since)) {
+            for (ItemChange change : (Iterable<ItemChange>) changes::iterator) {
+                if (!isSettled(change, settledBefore)) {
+                    break;
+                }
+                consumer.accept(change);
+                entityManager.detach(change);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Runs on the transaction's connection, after the item writes it records were flushed.
+     */
+    private void insert(List<ItemChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, changes, changes.size(), (statement, change) -> {
+            statement.setLong(1, change.getItemId());
+            statement.setString(2, change.getType().name());
+            if (change.getItemVersion() == null) {
+                statement.setNull(3, Types.BIGINT);
+            } else {
+                statement.setLong(3, change.getItemVersion());
+            }
+            statement.setString(4, change.getPayload());
+        });
+    }
+
+    /**
+     * Count the changes and run the index update once the transaction committed; nothing happens on rollback.
+     */
+    private void afterCommit(int changes, Runnable indexUpdate) {
+        if (changes == 0) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                committedChanges.addAndGet(changes);
+                if (indexUpdate != null) {
+                    indexUpdate.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Captures the indexed fields now, since the entities may change again before the commit.
+     */
+    private Runnable indexUpdate(Collection<Item> items) {
+        if (!searchIndex.isEnabled()) {
+            return null;
+        }
+        List<ItemSearchIndex.Entry> entries = items.stream().map(ItemSearchIndex.Entry::of).toList();
+        return () -> searchIndex.putAll(entries);
+    }
+
+    /**
+     * Settle cutoff on the database clock, so it compares with recordedAt regardless of this node's clock.
+     */
+    private Instant settledBefore() {
+        return changeRepository.currentInstant().minus(settleTime);
+    }
+
+    private static boolean isSettled(ItemChange change, Instant settledBefore) {
+        return change.getRecordedAt().isBefore(settledBefore);
+    }
+
+    private ItemChange toChange(ItemChange.Type type, Item item) {
+        ItemChange change = new ItemChange();
+        change.setItemId(item.getId());
+        change.setType(type);
+        change.setItemVersion(item.getVersion());
+        try {
+            change.setPayload(objectMapper.writeValueAsString(item));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        return change;
+    }
+}
@@ -0,0 +1,92 @@
+package com.siemens.internship.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for item processing:
+ * - items.processing.item: per-item latency timer with percentiles;
+ * - items.processing.outcome: counter tagged with outcome=processed|skipped|not_found|failed;
+ * - items.processing.retries / items.processing.dead.letters: retried attempts and dead-lettered items.
+ */
+@Component
+public class ItemProcessingMetrics {
+
+    /**
+     * What happened to one item during a processing run.
+     */
+    public enum Outcome { PROCESSED, SKIPPED, NOT_FOUND, FAILED }
+
+    private final Timer itemTimer;
+    private final Map<Outcome, Counter> outcomes = new EnumMap<>(Outcome.class);
+    private final Counter retries;
+    private final Counter deadLetters;
+
+    /**
+     * @param registry - meter registry to publish to
+     */
+    public ItemProcessingMetrics(MeterRegistry registry) {
+        this.itemTimer = Timer.builder("items.processing.item")
+                .description("Time spent processing a single item")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, Counter.builder("items.processing.outcome")
+                    .description("Items handled by processing runs, by outcome")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+        this.retries = Counter.builder("items.processing.retries")
+                .description("Item attempts retried after a transient failure")
+                .register(registry);
+        this.deadLetters = Counter.builder("items.processing.dead.letters")
+                .description("Items written to the dead-letter table")
+                .register(registry);
+    }
+
+    /**
+     * @param outcome - outcome of one item
+     */
+    public void record(Outcome outcome) {
+        outcomes.get(outcome).increment();
+    }
+
+    /**
+     * @param outcome - outcome shared by several items (e.g. a whole chunk)
+     * @param count   - number of items
+     */
+    public void record(Outcome outcome, long count) {
+        if (count > 0) {
+            outcomes.get(outcome).increment(count);
+        }
+    }
+
+    /**
+     * Count one retried attempt.
+     */
+    public void recordRetry() {
+        retries.increment();
+    }
+
+    /**
+     * Count one dead-lettered item.
+     */
+    public void recordDeadLetter() {
+        deadLetters.increment();
+    }
+
+    /**
+     * @param nanos - time one item took, in nanoseconds
+     */
+    public void recordItemTime(long nanos) {
+        itemTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
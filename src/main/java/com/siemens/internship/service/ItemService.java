@@ -1,17 +1,54 @@
 package com.siemens.internship.service;
 
+import com.siemens.internship.cache.CacheStats;
+import com.siemens.internship.cache.ItemCache;
+import com.siemens.internship.config.ExecutorConfig;
+import com.siemens.internship.index.ItemSearchIndex;
+import com.siemens.internship.model.DeadLetterItem;
 import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChange;
+import com.siemens.internship.model.ItemGroupCount;
+import com.siemens.internship.model.ItemSearchCriteria;
+import com.siemens.internship.processing.ItemPipeline;
+import com.siemens.internship.repository.DeadLetterItemRepository;
 import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.repository.ItemUpdateRepository;
+import com.siemens.internship.utils.BadRequestException;
 import com.siemens.internship.utils.ResourceNotFoundException;
+import com.siemens.internship.utils.RetriesExhaustedException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 /**
@@ -20,23 +57,105 @@ import java.util.stream.Collectors;
  */
 @Service
 public class ItemService {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemService.class);
+
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private DeadLetterItemRepository deadLetterRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Read-through cache for single item lookups; every write path below invalidates it.
+     */
+    @Autowired
+    private ItemCache itemCache;
+
+    @Autowired
+    private ItemSearchIndex searchIndex;
+
+    @Autowired
+    private ItemProcessingMetrics metrics;
+
+    /**
+     * Per status and per email domain counts; every write below reports what it changed.
+     */
+    @Autowired
+    private ItemStatsCounters statsCounters;
+
+    /**
+     * Outbox of item changes; every write below appends to it in the same transaction.
+     */
+    @Autowired
+    private ItemChangeLog changeLog;
+
+    /**
+     * For write paths that run on executor threads and can't go through a @Transactional proxy.
+     */
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Per-item transforms (ItemProcessor beans) applied by every processing mode.
+     */
+    @Autowired
+    private ItemPipeline pipeline;
+
+    /**
+     * Spring-managed executor for per-item tasks (platform pool or virtual threads,
+     * capped to the DB connection pool size), see ExecutorConfig.
+     */
+    @Autowired
+    @Qualifier(ExecutorConfig.ITEM_EXECUTOR)
+    private ExecutorService executor;
+
+    /**
+     * Number of IDs handled per transaction in bulk processing mode.
+     */
+    @Value("${items.processing.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    /**
+     * Largest page a client may request from the keyset-paginated read.
+     */
+    @Value("${items.page.max-limit:1000}")
+    private int maxPageSize = 1000;
+
     /**
-     * Shared thread pool for async tasks.
+     * Time limit of one processing attempt of one item, counted from when the attempt starts running.
      */
-    private static final ExecutorService executor = Executors.newFixedThreadPool(10);
+    @Value("${items.processing.timeout:PT30S}")
+    private Duration itemTimeout = Duration.ofSeconds(30);
 
     /**
-     * Holds items processed in current batch.
+     * Retries of transient per-item failures, see configureRetry.
      */
-    private List<Item> processedItems = new ArrayList<>();
+    private RetryPolicy retryPolicy = new RetryPolicy(3, Duration.ofMillis(100), 2.0, Duration.ofSeconds(5));
 
     /**
-     * Count of items processed so far.
+     * Dead letters picked up by one replay.
      */
-    private int processedCount = 0;
+    @Value("${items.dead-letter.replay-batch-size:1000}")
+    private int replayBatchSize = 1000;
+
+    /**
+     * Items processWithRetry works on at once in processItemsAsync and replayDeadLetters; the next one
+     * starts when one finishes, so no item waits in the executor queue while its time limit runs.
+     */
+    @Value("${items.processing.max-in-flight-items:${items.executor.max-in-flight:${spring.datasource.hikari.maximum-pool-size:10}}}")
+    private int maxInFlightItems = 10;
+
+    @Autowired
+    void configureRetry(@Value("${items.processing.retry.max-attempts:3}") int maxAttempts,
+                        @Value("${items.processing.retry.initial-backoff:PT0.1S}") Duration initialBackoff,
+                        @Value("${items.processing.retry.multiplier:2.0}") double multiplier,
+                        @Value("${items.processing.retry.max-backoff:PT5S}") Duration maxBackoff) {
+        this.retryPolicy = new RetryPolicy(maxAttempts, initialBackoff, multiplier, maxBackoff);
+    }
 
     /**
      * Retrieve all items from the database.
@@ -47,6 +166,91 @@ public class ItemService {
         return itemRepository.findAll();
     }
 
+    /**
+     * Keyset-paginated read: up to limit items whose id is greater than the cursor.
+     *
+     * @param after - cursor (id of the last item already seen), null to start from the beginning
+     * @param limit - page size, between 1 and the configured maximum
+     * @return items in ascending id order
+     * @throws BadRequestException if the limit is out of range
+     */
+    public List<Item> findPage(Long after, int limit) {
+        if (limit <= 0 || limit > maxPageSize) {
+            throw new BadRequestException("Limit must be between 1 and " + maxPageSize + ", got " + limit);
+        }
+        return itemRepository.findPageAfter(after == null ? Long.MIN_VALUE : after, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Keyset-paginated search. Without filters this is findPage. With the in-process index ready,
+     * the index picks the page of ids and only those rows are loaded; otherwise one indexed query runs.
+     * Loaded items are re-checked against the filters, so a stale index entry is skipped, and the
+     * index is asked again until the page is full or it runs out of candidates.
+     *
+     * @param criteria - filters
+     * @param after    - cursor (id of the last item already seen), null to start from the beginning
+     * @param limit    - page size, between 1 and the configured maximum
+     * @return matching items in ascending id order
+     * @throws BadRequestException if the limit is out of range
+     */
+    public List<Item> search(ItemSearchCriteria criteria, Long after, int limit) {
+        if (criteria.isEmpty()) {
+            return findPage(after, limit);
+        }
+        if (limit <= 0 || limit > maxPageSize) {
+            throw new BadRequestException("Limit must be between 1 and " + maxPageSize + ", got " + limit);
+        }
+        if (!searchIndex.canAnswer(criteria)) {
+            return itemRepository.search(criteria, after, limit);
+        }
+
+        List<Item> page = new ArrayList<>(limit);
+        Long cursor = after;
+        while (page.size() < limit) {
+            int wanted = limit - page.size();
+            List<Long> ids = searchIndex.findIds(criteria, cursor, wanted);
+            if (ids.isEmpty()) {
+                break;
+            }
+            Map<Long, Item> loaded = new HashMap<>();
+            for (Item item : itemRepository.findAllById(ids)) {
+                loaded.put(item.getId(), item);
+            }
+            for (Long id : ids) {
+                Item item = loaded.get(id);
+                if (item != null && criteria.matches(item)) {
+                    page.add(item);
+                }
+            }
+            if (ids.size() < wanted) {
+                break;
+            }
+            cursor = ids.get(ids.size() - 1);
+        }
+        return page;
+    }
+
+    /**
+     * Push every item, in id order, to the consumer while reading them through a DB cursor.
+     * Each entity is detached once consumed, so the persistence context (and heap) stays flat
+     * whatever the row count.
+     *
+     * @param consumer - receives each item; may throw to abort the walk
+     * @return number of items visited
+     */
+    @Transactional(readOnly = true)
+    public long forEachItem(Consumer<Item> consumer) {
+        long count = 0;
+        try (Stream<Item> items = itemRepository.streamAllOrderedById()) {
+            for (Item item : (Iterable<Item>) items::iterator) {
+                consumer.accept(item);
+                entityManager.detach(item);
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Get an item based on its id or throw ResourceNotFoundException if not present.
      *
@@ -55,28 +259,79 @@ public class ItemService {
      * @throws ResourceNotFoundException if missing
      */
     public Item findByIdOrThrow(Long id) {
-        return itemRepository.findById(id)
+        return findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Item not found with id " + id));
     }
 
     /**
-     * Optional fetch by ID (no exception).
+     * Optional fetch by ID (no exception), served from the item cache when possible.
+     * A cache hit returns a private copy, so callers may mutate it freely.
      *
      * @param id - item ID
      * @return Optional<Item>
      */
     public Optional<Item> findById(Long id) {
-        return itemRepository.findById(id);
+        Optional<Item> cached = itemCache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long stamp = itemCache.stamp();
+        Optional<Item> loaded = itemRepository.findById(id);
+        loaded.ifPresent(found -> itemCache.putIfUnchanged(found, stamp));
+        return loaded;
+    }
+
+    /**
+     * Current version of an item, for conditional requests: from the item cache when possible,
+     * otherwise a single-column query, so no full row is loaded just to answer 304.
+     *
+     * @param id - item ID
+     * @return version, empty if the item doesn't exist
+     */
+    public Optional<Long> findVersion(Long id) {
+        Optional<Item> cached = itemCache.get(id);
+        if (cached.isPresent()) {
+            return Optional.ofNullable(cached.get().getVersion());
+        }
+        return itemRepository.findVersionById(id);
     }
 
     /**
      * Save a new item.
+     * An item without a version is new and gets a fresh id, like in createAll: an id sent by a client
+     * would otherwise make Spring Data persist what JPA sees as a detached entity.
      *
      * @param item - Item that is being written
      * @return the Item that has been written
      */
+    @Transactional
     public Item save(Item item) {
-        return itemRepository.save(item);
+        boolean created = item.getVersion() == null;
+        if (created) {
+            item.setId(null);
+        }
+        // the lookup puts the row in the persistence context, so the merge below doesn't load it again
+        List<ItemGroupCount> before = created || item.getId() == null ? List.of()
+                : itemRepository.findById(item.getId()).map(ItemGroupCount::of).stream().toList();
+        Item saved = itemRepository.save(item);
+        changeLog.record(created ? ItemChange.Type.CREATED : ItemChange.Type.UPDATED, saved);
+        statsCounters.record(before, List.of(ItemGroupCount.of(saved)));
+        itemCache.evict(saved.getId());
+        return saved;
+    }
+
+    /**
+     * @return hit, miss and eviction counters of the item cache
+     */
+    public CacheStats cacheStats() {
+        return itemCache.stats();
+    }
+
+    /**
+     * @return item counts per status and per email domain, read from in-memory counters
+     */
+    public ItemStats stats() {
+        return statsCounters.snapshot();
     }
 
     /**
@@ -85,28 +340,147 @@ public class ItemService {
      * @param id - ID of item to be deleted
      * @throws ResourceNotFoundException if missing
      */
+    @Transactional
     public void deleteById(Long id) {
-        if (!itemRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Item not found with id " + id);
-        }
-        itemRepository.deleteById(id);
+        Item existing = itemRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Item not found with id " + id));
+        itemRepository.delete(existing);
+        changeLog.recordDeleted(List.of(id));
+        statsCounters.record(List.of(ItemGroupCount.of(existing)), List.of());
+        itemCache.evict(id);
     }
 
     /**
-     * Update fields of an existing item.
+     * Update fields of an existing item with a single UPDATE, without loading it first:
+     * the statement returns the status, domain and version it replaced, which is all the
+     * change feed and the statistics need next to the new data.
      *
      * @param id   - ID of item to update
      * @param item - data to apply
      * @return updated Item
      * @throws ResourceNotFoundException if missing
      */
+    @Transactional
     public Item updateItem(Long id, Item item) {
-        Item existing = findByIdOrThrow(id);
-        existing.setName(item.getName());
-        existing.setDescription(item.getDescription());
-        existing.setStatus(item.getStatus());
-        existing.setEmail(item.getEmail());
-        return itemRepository.save(existing);
+        // the column keeps microseconds; truncate so the returned item matches the stored one
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        ItemUpdateRepository.Previous previous = itemRepository.updateFields(id, item, now)
+                .orElseThrow(() -> new ResourceNotFoundException("Item not found with id " + id));
+        Item saved = new Item(id, item.getName(), item.getDescription(), item.getStatus(), item.getEmail());
+        saved.setVersion(previous.nextVersion());
+        saved.setLastModified(now);
+        changeLog.record(ItemChange.Type.UPDATED, saved);
+        statsCounters.record(List.of(new ItemGroupCount(previous.status(), previous.emailDomain(), 1)),
+                List.of(ItemGroupCount.of(saved)));
+        itemCache.evict(id);
+        return saved;
+    }
+
+    /**
+     * Insert many items in one transaction. With hibernate.jdbc.batch_size and the pooled
+     * id sequence this turns into a few batched INSERTs instead of one round trip per row.
+     *
+     * @param items - new items, already validated
+     * @return saved items, in the same order
+     */
+    @Transactional
+    public List<Item> createAll(List<Item> items) {
+        items.forEach(item -> item.setId(null));
+        List<Item> saved = itemRepository.saveAll(items);
+        changeLog.recordAll(ItemChange.Type.CREATED, saved);
+        statsCounters.record(List.of(), groupCounts(saved));
+        return saved;
+    }
+
+    /**
+     * Update many items in one transaction: one SELECT ... IN for the existing rows,
+     * then batched UPDATEs when the transaction flushes.
+     *
+     * @param items - new data, each carrying the id of the item to update
+     * @return updated items by id; ids that don't exist are absent
+     */
+    @Transactional
+    public Map<Long, Item> updateAll(List<Item> items) {
+        List<Long> ids = items.stream().map(Item::getId).filter(Objects::nonNull).toList();
+        Map<Long, Item> existing = itemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        itemCache.evictAll(ids);
+        Map<Long, Item> updated = new LinkedHashMap<>();
+        List<ItemGroupCount> before = new ArrayList<>();
+        for (Item item : items) {
+            Item target = existing.get(item.getId());
+            if (target != null) {
+                if (!updated.containsKey(target.getId())) {
+                    before.add(ItemGroupCount.of(target));
+                }
+                applyChanges(target, item);
+                updated.put(target.getId(), target);
+            }
+        }
+        itemRepository.flush(); // bumps the versions recorded in the change feed
+        changeLog.recordAll(ItemChange.Type.UPDATED, updated.values());
+        statsCounters.record(before, groupCounts(updated.values()));
+        return updated;
+    }
+
+    /**
+     * Delete many items with a single DELETE ... IN statement.
+     *
+     * @param ids - ids to remove
+     * @return the ids that existed and were deleted
+     */
+    @Transactional
+    public Set<Long> deleteAllById(Collection<Long> ids) {
+        Set<Long> existing = new HashSet<>(itemRepository.findExistingIds(ids));
+        if (!existing.isEmpty()) {
+            List<ItemGroupCount> removed = itemRepository.countByStatusAndEmailDomain(existing);
+            itemRepository.deleteAllByIdInBatch(existing);
+            changeLog.recordDeleted(existing);
+            statsCounters.record(removed, List.of());
+            itemCache.evictAll(existing);
+        }
+        return existing;
+    }
+
+    /**
+     * Batched writer for items that went through the pipeline: lock the rows that are still pending
+     * (SKIP LOCKED), copy the transformed fields onto them and let the commit flush them as batched UPDATEs.
+     * Rows claimed meanwhile by another worker are left out, and so are rows whose version no longer
+     * matches the one the pipeline read: they were updated in between and stay pending for the next run
+     * instead of being overwritten with the stale values.
+     *
+     * @param items - transformed items, with distinct ids and the version they were read with
+     * @return the items written, as managed by this transaction
+     */
+    @Transactional
+    public List<Item> writeProcessed(List<Item> items) {
+        Map<Long, Item> transformed = items.stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        List<Item> claimed = itemRepository.lockPending(new ArrayList<>(transformed.keySet())).stream()
+                .filter(target -> Objects.equals(target.getVersion(), transformed.get(target.getId()).getVersion()))
+                .toList();
+        List<ItemGroupCount> before = groupCounts(claimed);
+        claimed.forEach(target -> applyChanges(target, transformed.get(target.getId())));
+        itemRepository.flush(); // bumps the versions recorded in the change feed
+        changeLog.recordAll(ItemChange.Type.PROCESSED, claimed);
+        statsCounters.record(before, groupCounts(claimed));
+        itemCache.evictAll(transformed.keySet());
+        return claimed;
+    }
+
+    private static List<ItemGroupCount> groupCounts(Collection<Item> items) {
+        return items.stream().map(ItemGroupCount::of).toList();
+    }
+
+    /**
+     * Copy the client-editable fields onto a managed entity.
+     */
+    private static void applyChanges(Item target, Item source) {
+        target.setName(source.getName());
+        target.setDescription(source.getDescription());
+        target.setStatus(source.getStatus());
+        target.setEmail(source.getEmail());
     }
 
     /**
@@ -134,50 +508,31 @@ public class ItemService {
      * - update its status,
      * - save it,
      * - collect into a list.
+     * The call itself (one query for the pending ids, then scheduling) runs on the DB executor, not on the
+     * item executor: it would hold one of that executor's permits while its per-item tasks wait for one,
+     * which deadlocks once max-in-flight permits are all taken by such calls.
      *
      * @return a CompletableFuture that completes when all items are done.
      */
-    @Async
+    @Async(ExecutorConfig.ITEM_DB_EXECUTOR)
     public CompletableFuture<List<Item>> processItemsAsync() {
 
-        // Task 7i: fetch all IDs ahead of time
-        List<Long> itemIds = itemRepository.findAllIds();
-
-        // Task 7i/7ii: for each ID, submit a supplier that processes it and
-        // returns the Item or null on failure
-        List<CompletableFuture<Item>> futures = itemIds.stream()
-                .map(id ->
-                        CompletableFuture.supplyAsync(() -> {
-                                    try {
-                                        // simulate work
-                                        Thread.sleep(100);
-
-                                        // retrieve
-                                        Item item = itemRepository.findById(id).orElse(null);
-                                        if (item == null) {
-                                            return null;
-                                        }
-
-                                        if ("PROCESSED".equalsIgnoreCase(item.getStatus())) {
-                                            return null;
-                                        }
-
-                                        // update and save
-                                        item.setStatus("PROCESSED");
-                                        return itemRepository.save(item);
-
-                                    } catch (InterruptedException e) {
-                                        Thread.currentThread().interrupt();
-                                        return null;
-                                    }
-                                }, executor)
-                                // Task 7iii: if any one fails, return null and swallow or log exception
-                                .exceptionally(ex -> {
-                                    // log here ex.getMessage()
+        // Task 7i: fetch the IDs of pending items only (index backed), already processed ones cost nothing
+        List<Long> itemIds = itemRepository.findPendingIds();
+
+        // Task 7i/7ii: for each ID, start its processing, maxInFlightItems at a time (time-limited and
+        // retried on transient errors); the future yields the Item or null on failure
+        List<CompletableFuture<Item>> futures = inFlightLimited(itemIds, id ->
+                        processWithRetry(id)
+                                // Task 7iii: a failing item must not fail the whole run,
+                                // but it is logged, counted and dead-lettered instead of silently dropped
+                                // (on the item executor: a timeout completes on the JDK's timer thread)
+                                .exceptionallyAsync(ex -> {
+                                    log.warn("Processing item {} failed", id, ex);
+                                    metrics.record(ItemProcessingMetrics.Outcome.FAILED);
+                                    deadLetter(id, ex);
                                     return null;
-                                })
-                )
-                .toList();
+                                }, executor));
 
         // Task 7iii: combine all into one future
         CompletableFuture<Void> allDone = CompletableFuture
@@ -192,4 +547,398 @@ public class ItemService {
         );
         return resultList;
     }
-}
\ No newline at end of file
+
+    /**
+     * Run the task for every element, at most maxInFlightItems at a time, in list order.
+     *
+     * @return one future per element, in the same order
+     */
+    private <T, R> List<CompletableFuture<R>> inFlightLimited(List<T> elements,
+                                                              Function<T, CompletableFuture<R>> task) {
+        List<CompletableFuture<R>> results = elements.stream().map(e -> new CompletableFuture<R>()).toList();
+        AtomicInteger next = new AtomicInteger();
+        Runnable startNext = new Runnable() {
+            @Override
+            public void run() {
+                int i = next.getAndIncrement();
+                if (i >= elements.size()) {
+                    return;
+                }
+                CompletableFuture<R> started;
+                try {
+                    started = task.apply(elements.get(i));
+                } catch (RuntimeException e) {
+                    started = CompletableFuture.failedFuture(e);
+                }
+                // async, so a run of already completed tasks doesn't recurse
+                started.whenCompleteAsync((value, ex) -> {
+                    if (ex == null) {
+                        results.get(i).complete(value);
+                    } else {
+                        results.get(i).completeExceptionally(ex);
+                    }
+                    run();
+                }, executor);
+            }
+        };
+        for (int i = 0; i < Math.min(Math.max(maxInFlightItems, 1), elements.size()); i++) {
+            startNext.run();
+        }
+        return results;
+    }
+
+    /**
+     * Process one item with a time limit per attempt; transient failures (timeouts, lock conflicts,
+     * lost connections) are retried with exponential backoff, without holding a thread while waiting.
+     * A timed out attempt is abandoned, not interrupted: its thread is released once the stuck call returns,
+     * and it never writes the item, so a dead-lettered item was really left unprocessed.
+     * The time limit covers loading and transforming only: once an attempt has started to store the item
+     * it can't time out any more, since it would then be unknown whether the item was written. A store that
+     * hangs (e.g. waiting on a row lock) is bounded only by the database, and holds the returned future,
+     * and so the future of processItemsAsync, until the database gives up.
+     *
+     * @param id - item ID
+     * @return future of the saved item (or null, see processOne);
+     * fails with RetriesExhaustedException when the item can't be processed
+     */
+    private CompletableFuture<Item> processWithRetry(Long id) {
+        CompletableFuture<Item> result = new CompletableFuture<>();
+        attempt(id, 1, result);
+        return result;
+    }
+
+    private void attempt(Long id, int attempt, CompletableFuture<Item> result) {
+        CompletableFuture<Item> timed = new CompletableFuture<>();
+        // set by whichever comes first: the timeout, or the attempt starting to store the item
+        AtomicBoolean settled = new AtomicBoolean();
+        Runnable startClock = () -> CompletableFuture.delayedExecutor(itemTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .execute(() -> {
+                    if (settled.compareAndSet(false, true)) {
+                        timed.completeExceptionally(new TimeoutException(
+                                "Item " + id + " not processed within " + itemTimeout.toMillis() + " ms"));
+                    }
+                });
+        processOne(id, startClock, settled)
+                .whenComplete((item, ex) -> {
+                    if (ex == null) {
+                        timed.complete(item);
+                    } else {
+                        timed.completeExceptionally(ex);
+                    }
+                });
+        timed.whenComplete((item, ex) -> {
+            if (ex == null) {
+                result.complete(item);
+                return;
+            }
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (retryPolicy.shouldRetry(attempt, cause)) {
+                metrics.recordRetry();
+                long delay = retryPolicy.backoffMillis(attempt);
+                log.debug("Item {} attempt {} failed ({}), retrying in {} ms", id, attempt, cause.toString(), delay);
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor)
+                        .execute(() -> attempt(id, attempt + 1, result));
+            } else {
+                result.completeExceptionally(new RetriesExhaustedException(id, attempt, cause));
+            }
+        });
+    }
+
+    /**
+     * Record a failed item in the dead-letter table (one row per item, updated on repeated failures).
+     * A failure to write the dead letter is only logged, it must not hide the original error.
+     *
+     * @param id      - item ID
+     * @param failure - what processing failed with
+     */
+    private void deadLetter(Long id, Throwable failure) {
+        Throwable cause = failure;
+        int attempts = 1;
+        while ((cause instanceof CompletionException || cause instanceof RetriesExhaustedException)
+                && cause.getCause() != null) {
+            if (cause instanceof RetriesExhaustedException exhausted) {
+                attempts = exhausted.getAttempts();
+            }
+            cause = cause.getCause();
+        }
+        try {
+            DeadLetterItem letter = deadLetterRepository.findByItemId(id).orElseGet(() -> new DeadLetterItem(id));
+            Instant now = Instant.now();
+            if (letter.getFirstFailedAt() == null) {
+                letter.setFirstFailedAt(now);
+            }
+            letter.setLastFailedAt(now);
+            letter.setAttempts(letter.getAttempts() + attempts);
+            letter.setErrorType(cause.getClass().getName());
+            String message = cause.getMessage();
+            letter.setErrorMessage(message != null && message.length() > 2000 ? message.substring(0, 2000) : message);
+            deadLetterRepository.save(letter);
+            metrics.recordDeadLetter();
+        } catch (RuntimeException e) {
+            log.error("Could not dead-letter item {}", id, e);
+        }
+    }
+
+    /**
+     * @param limit - maximum number of entries, between 1 and the configured maximum page size
+     * @return oldest dead letters first
+     * @throws BadRequestException if the limit is out of range
+     */
+    public List<DeadLetterItem> findDeadLetters(int limit) {
+        if (limit <= 0 || limit > maxPageSize) {
+            throw new BadRequestException("Limit must be between 1 and " + maxPageSize + ", got " + limit);
+        }
+        return deadLetterRepository.findAllByOrderByIdAsc(PageRequest.of(0, limit));
+    }
+
+    /**
+     * Run the oldest dead-lettered items through processing again, with the same timeout and retries.
+     * Items that now succeed (or turn out to be already processed or deleted) leave the dead-letter
+     * table; the others stay with their attempt count and latest cause updated.
+     *
+     * @return future of the replay summary
+     */
+    public CompletableFuture<DeadLetterReplayResult> replayDeadLetters() {
+        List<DeadLetterItem> letters = deadLetterRepository.findAllByOrderByIdAsc(PageRequest.of(0, replayBatchSize));
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        List<CompletableFuture<Void>> replays = inFlightLimited(letters, letter -> processWithRetry(letter.getItemId())
+                        .<Void>handleAsync((item, ex) -> {
+                            if (ex == null) {
+                                try {
+                                    deadLetterRepository.deleteById(letter.getId());
+                                    succeeded.incrementAndGet();
+                                } catch (RuntimeException e) {
+                                    log.warn("Could not remove dead letter of item {}", letter.getItemId(), e);
+                                    failed.incrementAndGet();
+                                }
+                            } else {
+                                metrics.record(ItemProcessingMetrics.Outcome.FAILED);
+                                deadLetter(letter.getItemId(), ex);
+                                failed.incrementAndGet();
+                            }
+                            return null;
+                        }, executor));
+
+        return CompletableFuture.allOf(replays.toArray(new CompletableFuture[0]))
+                .thenApply(v -> new DeadLetterReplayResult(letters.size(), succeeded.get(), failed.get()));
+    }
+
+    /**
+     * Process a single item: fetch it on the item executor, skip it if already processed,
+     * run it through the pipeline (CPU stages on the ForkJoin pool, IO stages on the IO executor)
+     * and save it back on the item executor. Timed, from when the load starts running, and counted by outcome.
+     *
+     * @param id      - item ID
+     * @param started - called on the executor thread right before the load
+     * @param settled - set by the timeout or by the store, whichever comes first; the loser backs off,
+     *                so a store that wins runs without a time limit (see processWithRetry)
+     * @return future of the saved item, or of null if it was missing, already processed, dropped or abandoned
+     */
+    private CompletableFuture<Item> processOne(Long id, Runnable started, AtomicBoolean settled) {
+        long[] start = new long[1];
+        return CompletableFuture.supplyAsync(() -> {
+                    start[0] = System.nanoTime();
+                    started.run();
+                    return loadPending(id);
+                }, executor)
+                .thenCompose(item -> item == null
+                        ? CompletableFuture.<Item>completedFuture(null)
+                        : pipeline.apply(item).thenApplyAsync(transformed -> {
+                            if (!settled.compareAndSet(false, true)) {
+                                log.debug("Item {} timed out, dropping its late result", id);
+                                return null;
+                            }
+                            return store(transformed);
+                        }, executor))
+                .whenComplete((item, ex) -> {
+                    if (start[0] != 0) {
+                        metrics.recordItemTime(System.nanoTime() - start[0]);
+                    }
+                });
+    }
+
+    /**
+     * @return the item if it exists and still needs processing, otherwise null (counted)
+     */
+    private Item loadPending(Long id) {
+        Item item = itemRepository.findById(id).orElse(null);
+        if (item == null) {
+            metrics.record(ItemProcessingMetrics.Outcome.NOT_FOUND);
+            return null;
+        }
+        if ("PROCESSED".equalsIgnoreCase(item.getStatus())) {
+            metrics.record(ItemProcessingMetrics.Outcome.SKIPPED);
+            return null;
+        }
+        return item;
+    }
+
+    /**
+     * Save a transformed item; an item dropped by the pipeline (null) is counted as skipped.
+     */
+    private Item store(Item item) {
+        if (item == null) {
+            metrics.record(ItemProcessingMetrics.Outcome.SKIPPED);
+            return null;
+        }
+        Item saved = transactionTemplate.execute(status -> {
+            // counts as stored, not as transformed: the pipeline worked on a detached copy
+            List<ItemGroupCount> before = itemRepository.findById(item.getId())
+                    .map(ItemGroupCount::of).stream().toList();
+            Item written = itemRepository.save(item);
+            itemRepository.flush(); // bumps the version recorded in the change feed
+            changeLog.record(ItemChange.Type.PROCESSED, written);
+            statsCounters.record(before, List.of(ItemGroupCount.of(written)));
+            return written;
+        });
+        itemCache.evict(item.getId());
+        metrics.record(ItemProcessingMetrics.Outcome.PROCESSED);
+        return saved;
+    }
+
+    /**
+     * Bulk processing mode: walk the pending items in keyset-paginated chunks (id > lastId),
+     * run each chunk through the item pipeline and write it with {@link #writeProcessed} in its own transaction.
+     * Memory stays bounded by the chunk size, and only pending rows are read, so a repeat
+     * run costs time proportional to new work rather than to the table size.
+     *
+     * @return summary of the run
+     */
+    public BulkProcessingResult processItemsInChunks() {
+        return processItemsInChunks(chunkSize);
+    }
+
+    /**
+     * Bulk processing mode with an explicit chunk size.
+     *
+     * @param chunkSize - number of items per chunk, must be positive
+     * @return summary of the run
+     * @throws BadRequestException if chunkSize is not positive
+     */
+    public BulkProcessingResult processItemsInChunks(int chunkSize) {
+        ProcessingJob job = new ProcessingJob("sync");
+        job.start(-1);
+        int chunks = walkChunks(job, chunkSize, true, Long.MIN_VALUE, Long.MAX_VALUE, () -> true);
+        job.finish(null);
+        return new BulkProcessingResult(job.getProcessed() + job.getSkipped(), job.getProcessed(), chunks);
+    }
+
+    /**
+     * Run the bulk processing mode on behalf of a background job.
+     * Progress is published on the job after every chunk; a failing chunk is counted
+     * as failed and the walk continues with the next one. Cancellation is honoured
+     * at chunk boundaries, so every committed chunk stays committed.
+     *
+     * @param job - job to run and report progress on
+     */
+    public void runProcessingJob(ProcessingJob job) {
+        if (!job.start(itemRepository.countPending())) {
+            return; // cancelled while queued
+        }
+        try {
+            walkChunks(job, chunkSize, false, Long.MIN_VALUE, Long.MAX_VALUE, () -> true);
+            job.finish(null);
+        } catch (Throwable ex) {
+            // an Error too: a job left RUNNING would block every later submission
+            job.finish(ex);
+            if (ex instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * Process the pending items of one id range on behalf of a job that is already running,
+     * e.g. a partition leased by PartitionedItemProcessor.
+     *
+     * @param job            - receives per chunk progress and carries the cancel flag
+     * @param fromInclusive  - first id of the range
+     * @param toExclusive    - end of the range
+     * @param beforeEachChunk - called before every chunk (e.g. to renew a lease); returning false stops the walk
+     * @return number of chunks executed
+     */
+    public int processRange(ProcessingJob job, long fromInclusive, long toExclusive, BooleanSupplier beforeEachChunk) {
+        return walkChunks(job, chunkSize, false, fromInclusive - 1, toExclusive, beforeEachChunk);
+    }
+
+    /**
+     * Keyset walk over pending items shared by the synchronous, job based and partitioned bulk modes.
+     *
+     * @param job             - receives per chunk progress and carries the cancel flag
+     * @param chunkSize       - number of items per chunk, must be positive
+     * @param failFast        - rethrow a chunk failure instead of counting it and moving on
+     * @param afterId         - walk ids strictly greater than this
+     * @param toExclusive     - walk ids strictly lower than this
+     * @param beforeEachChunk - returning false stops the walk
+     * @return number of chunks executed
+     */
+    private int walkChunks(ProcessingJob job, int chunkSize, boolean failFast,
+                           long afterId, long toExclusive, BooleanSupplier beforeEachChunk) {
+        if (chunkSize <= 0) {
+            throw new BadRequestException("Chunk size must be positive, got " + chunkSize);
+        }
+
+        int chunks = 0;
+        Long lastId = afterId;
+
+        while (!job.isCancelRequested() && beforeEachChunk.getAsBoolean()) {
+            List<Item> chunk = itemRepository.findPendingInRange(lastId, toExclusive, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            try {
+                AtomicInteger failed = new AtomicInteger();
+                List<Item> transformed = transformChunk(chunk, failed);
+                // rows claimed meanwhile by another worker, or changed since they were read, are skipped;
+                // the writes and their change feed entries commit together
+                int updated = transformed.isEmpty() ? 0
+                        : transactionTemplate.execute(status -> writeProcessed(transformed)).size();
+                int skipped = chunk.size() - failed.get() - updated;
+                job.recordChunk(updated, skipped);
+                job.recordFailed(failed.get());
+                metrics.record(ItemProcessingMetrics.Outcome.PROCESSED, updated);
+                metrics.record(ItemProcessingMetrics.Outcome.SKIPPED, skipped);
+                metrics.record(ItemProcessingMetrics.Outcome.FAILED, failed.get());
+            } catch (RuntimeException ex) {
+                metrics.record(ItemProcessingMetrics.Outcome.FAILED, chunk.size());
+                if (failFast) {
+                    throw ex;
+                }
+                log.warn("Processing chunk after id {} failed", lastId, ex);
+                job.recordFailed(chunk.size());
+            }
+            chunks++;
+            lastId = chunk.get(chunk.size() - 1).getId();
+
+            // a short page means we reached the end, no need for one more empty query
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Run a chunk through the item pipeline and wait for all of it. The pipeline works on copies,
+     * so the versions read stay what writeProcessed checks against. An item a stage fails is logged,
+     * counted in failed and left pending; one a stage drops is left out.
+     *
+     * @return the transformed items, in chunk order
+     */
+    private List<Item> transformChunk(List<Item> chunk, AtomicInteger failed) {
+        List<CompletableFuture<Item>> futures = chunk.stream()
+                .map(item -> pipeline.apply(item.copy()).exceptionally(ex -> {
+                    log.warn("Processing item {} failed", item.getId(), ex);
+                    failed.incrementAndGet();
+                    return null;
+                }))
+                .toList();
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
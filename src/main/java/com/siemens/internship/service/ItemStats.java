@@ -0,0 +1,13 @@
+package com.siemens.internship.service;
+
+import java.util.Map;
+
+/**
+ * Item counts served by GET /api/items/stats.
+ *
+ * @param total         - number of items
+ * @param byStatus      - items per status
+ * @param byEmailDomain - items per email domain
+ */
+public record ItemStats(long total, Map<String, Long> byStatus, Map<String, Long> byEmailDomain) {
+}
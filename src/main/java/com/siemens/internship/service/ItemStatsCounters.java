@@ -0,0 +1,122 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.model.ItemGroupCount;
+import com.siemens.internship.repository.ItemRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory item counts per status and per email domain, so statistics never scan the table.
+ * Writers report what they removed and added; the counters move once the transaction commits
+ * (LongAdder, so concurrent writers don't contend on one cell). The counts are built from one
+ * grouped query when this bean is created: writers only report through ItemService, which can't run
+ * before its dependencies exist, and the web server starts after the singletons, so no write can
+ * commit between the query and the reset and be lost or counted twice. Rows already in the table by then
+ * (e.g. seeded by an SQL init script) are counted by that query.
+ *
+ * Bulk loaders that write rows behind ItemService's back once the counters exist (snapshot restore,
+ * benchmark seeding) must call {@link #rebuild()} when they are done.
+ *
+ * Like the collection ETag, the counts only follow writes made through this node.
+ */
+@Component
+public class ItemStatsCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemStatsCounters.class);
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private final LongAdder total = new LongAdder();
+    private final Map<String, LongAdder> byStatus = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> byEmailDomain = new ConcurrentHashMap<>();
+
+    /**
+     * Move the counters after the current transaction commits (right away outside a transaction).
+     *
+     * @param removed - status/domain of items deleted, or of changed items before the change
+     * @param added   - status/domain of items created, or of changed items after the change
+     */
+    public void record(Collection<ItemGroupCount> removed, Collection<ItemGroupCount> added) {
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        List<ItemGroupCount> minus = List.copyOf(removed);
+        List<ItemGroupCount> plus = List.copyOf(added);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(minus, plus);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(minus, plus);
+            }
+        });
+    }
+
+    /**
+     * @return current counts; statuses and domains without items are left out
+     */
+    public ItemStats snapshot() {
+        return new ItemStats(total.sum(), sums(byStatus), sums(byEmailDomain));
+    }
+
+    /**
+     * Reset the counters from the table. Runs at bean creation, and is the hook for bulk loaders
+     * (see the class comment); a later call is only exact while no write is in flight.
+     */
+    @PostConstruct
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        List<ItemGroupCount> groups = itemRepository.countByStatusAndEmailDomain();
+        total.reset();
+        byStatus.clear();
+        byEmailDomain.clear();
+        apply(List.of(), groups);
+        log.info("Rebuilt item statistics from {} groups in {} ms", groups.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void apply(List<ItemGroupCount> removed, List<ItemGroupCount> added) {
+        for (ItemGroupCount group : removed) {
+            add(group, -group.count());
+        }
+        for (ItemGroupCount group : added) {
+            add(group, group.count());
+        }
+    }
+
+    private void add(ItemGroupCount group, long delta) {
+        total.add(delta);
+        if (group.status() != null) {
+            byStatus.computeIfAbsent(group.status(), key -> new LongAdder()).add(delta);
+        }
+        if (group.emailDomain() != null) {
+            byEmailDomain.computeIfAbsent(group.emailDomain(), key -> new LongAdder()).add(delta);
+        }
+    }
+
+    private static Map<String, Long> sums(Map<String, LongAdder> counters) {
+        Map<String, Long> sums = new TreeMap<>();
+        counters.forEach((key, counter) -> {
+            long sum = counter.sum();
+            if (sum != 0) {
+                sums.put(key, sum);
+            }
+        });
+        return sums;
+    }
+}
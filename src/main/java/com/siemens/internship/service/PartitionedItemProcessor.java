@@ -0,0 +1,164 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.repository.PartitionLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Multi-node processing: the item table is split into fixed id-range partitions and
+ * each node only processes partitions it holds a lease on (partition_lease table).
+ * Leases are taken with a conditional UPDATE, renewed by heartbeats between chunks and
+ * released when the partition is done; a crashed node's leases simply expire.
+ * Inside a partition rows are still claimed with SKIP LOCKED and Item carries @Version,
+ * so even a lease taken over from a slow node can't double-process a row.
+ */
+@Component
+public class PartitionedItemProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionedItemProcessor.class);
+
+    private static final String INSERT_PARTITION_IF_ABSENT =
+            "MERGE INTO partition_lease l " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT))) p(partition_id, range_start, range_end) " +
+            "ON l.partition_id = p.partition_id " +
+            "WHEN NOT MATCHED THEN INSERT (partition_id, range_start, range_end, version) " +
+            "VALUES (p.partition_id, p.range_start, p.range_end, 0)";
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PartitionLeaseRepository leaseRepository;
+
+    @Autowired
+    private ItemService itemService;
+
+    /**
+     * Partition rows are created with plain JDBC: a lost insert race is expected here, and Hibernate
+     * would log it at ERROR before we get to ignore it.
+     */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Identity of this node in the lease table.
+     */
+    @Value("${items.node-id:#{T(java.util.UUID).randomUUID().toString()}}")
+    private String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Number of ids per partition.
+     */
+    @Value("${items.partition.size:10000}")
+    private long partitionSize = 10_000;
+
+    /**
+     * How long a lease stays valid without a heartbeat.
+     */
+    @Value("${items.partition.lease-duration:PT30S}")
+    private Duration leaseDuration = Duration.ofSeconds(30);
+
+    /**
+     * Process all pending items, partition by partition, as this node.
+     * Partitions held by other nodes are skipped; each node starts its sweep at a different
+     * partition so nodes spread out instead of contending on partition 0.
+     *
+     * @param job - job to run and report progress on
+     */
+    public void run(ProcessingJob job) {
+        if (!job.start(itemRepository.countPending())) {
+            return; // cancelled while queued
+        }
+        try {
+            Long maxId = itemRepository.findMaxId();
+            if (maxId != null) {
+                long partitions = Math.floorDiv(maxId, partitionSize) + 1;
+                ensurePartitions(partitions);
+                long offset = Math.floorMod(nodeId.hashCode(), partitions);
+                for (long i = 0; i < partitions && !job.isCancelRequested(); i++) {
+                    processPartition(job, (offset + i) % partitions);
+                }
+            }
+            job.finish(null);
+        } catch (Throwable ex) {
+            // an Error too: a job left RUNNING would block every later submission
+            job.finish(ex);
+            if (ex instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * @return this node's id in the lease table
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void processPartition(ProcessingJob job, long partitionId) {
+        long acquiredAt = System.nanoTime();
+        if (leaseRepository.tryAcquire(partitionId, nodeId, leaseDuration.toMillis()) == 0) {
+            return; // another node is on it
+        }
+        Heartbeat heartbeat = new Heartbeat(partitionId, acquiredAt);
+        try {
+            long start = partitionId * partitionSize;
+            itemService.processRange(job, start, start + partitionSize, heartbeat::renewIfDue);
+        } finally {
+            leaseRepository.release(partitionId, nodeId);
+        }
+    }
+
+    /**
+     * Create lease rows for partitions 0..count-1 that don't exist yet (insert-if-absent).
+     * Several nodes may race here; two inserts of the same row still collide, and losing is fine.
+     */
+    private void ensurePartitions(long count) {
+        Long max = leaseRepository.findMaxPartitionId();
+        for (long id = max == null ? 0 : max + 1; id < count; id++) {
+            try {
+                jdbcTemplate.update(INSERT_PARTITION_IF_ABSENT, id, id * partitionSize, (id + 1) * partitionSize);
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Partition {} created concurrently by another node", id);
+            }
+        }
+    }
+
+    /**
+     * Renews the lease once a third of its duration has passed, and stops the walk if it was lost.
+     * Only the interval since the last renewal is measured here, on this node's monotonic clock;
+     * the expiry itself is kept on the database clock.
+     */
+    private final class Heartbeat {
+        private final long partitionId;
+        private long lastRenewal;
+
+        Heartbeat(long partitionId, long acquiredAt) {
+            this.partitionId = partitionId;
+            this.lastRenewal = acquiredAt;
+        }
+
+        boolean renewIfDue() {
+            long now = System.nanoTime();
+            if (now - lastRenewal < leaseDuration.dividedBy(3).toNanos()) {
+                return true;
+            }
+            if (leaseRepository.heartbeat(partitionId, nodeId, leaseDuration.toMillis()) == 0) {
+                log.warn("Lost lease on partition {}, stopping", partitionId);
+                return false;
+            }
+            lastRenewal = now;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.siemens.internship.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A background processing run tracked by {@link ProcessingJobRegistry}.
+ * Counters are updated by the worker thread and read concurrently by status polls,
+ * so all mutable state is held in atomics / volatile fields.
+ */
+public class ProcessingJob {
+
+    /**
+     * Lifecycle of a job.
+     */
+    public enum State { QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED }
+
+    /**
+     * Error code shown to clients for a FAILED job; the cause itself is only logged,
+     * since its message may carry internal details (SQL, constraint names).
+     */
+    public static final String PROCESSING_FAILED = "PROCESSING_FAILED";
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessingJob.class);
+
+    private final String id;
+    private final Instant createdAt = Instant.now();
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile long total = -1;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+    private volatile boolean cancelRequested;
+    private volatile Future<?> future;
+
+    /**
+     * @param id - unique job identifier
+     */
+    public ProcessingJob(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Worker side: the job starts running with a known (or -1 unknown) number of items.
+     *
+     * @param total - expected number of items
+     * @return false if the job was cancelled before it could start
+     */
+    boolean start(long total) {
+        this.total = total;
+        this.startedAt = Instant.now();
+        return state.compareAndSet(State.QUEUED, State.RUNNING);
+    }
+
+    /**
+     * Worker side: record the outcome of one chunk.
+     *
+     * @param updated - items switched to PROCESSED
+     * @param skipped - items visited but left untouched
+     */
+    void recordChunk(long updated, long skipped) {
+        this.processed.addAndGet(updated);
+        this.skipped.addAndGet(skipped);
+    }
+
+    /**
+     * Worker side: record items that could not be processed.
+     *
+     * @param count - number of failed items
+     */
+    void recordFailed(long count) {
+        this.failed.addAndGet(count);
+    }
+
+    /**
+     * Worker side: mark the run as over. A pending cancel request wins over a normal completion.
+     *
+     * @param cause - fatal error, or null if the run ended normally
+     */
+    void finish(Throwable cause) {
+        finishedAt = Instant.now();
+        if (cause != null) {
+            log.error("Processing job {} failed", id, cause);
+            error = PROCESSING_FAILED;
+            state.set(State.FAILED);
+        } else {
+            state.set(cancelRequested ? State.CANCELLED : State.COMPLETED);
+        }
+    }
+
+    /**
+     * @return true if the worker should stop at the next chunk boundary
+     */
+    boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    /**
+     * Request cooperative cancellation. A queued job is cancelled immediately,
+     * a running job stops after its current chunk commits.
+     */
+    public void cancel() {
+        cancelRequested = true;
+        if (state.compareAndSet(State.QUEUED, State.CANCELLED)) {
+            finishedAt = Instant.now();
+            Future<?> f = future;
+            if (f != null) {
+                f.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * @return true once the job reached a terminal state
+     */
+    public boolean isFinished() {
+        State s = state.get();
+        return s == State.COMPLETED || s == State.CANCELLED || s == State.FAILED;
+    }
+
+    /**
+     * Point-in-time view of the job, including throughput and ETA.
+     *
+     * @return immutable status snapshot
+     */
+    public ProcessingJobStatus snapshot() {
+        long done = processed.get() + skipped.get() + failed.get();
+        Instant start = startedAt;
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+
+        double itemsPerSecond = 0;
+        if (start != null) {
+            long millis = Math.max(1, Duration.between(start, end).toMillis());
+            itemsPerSecond = done * 1000.0 / millis;
+        }
+
+        Long etaSeconds = null;
+        if (!isFinished() && total >= 0 && itemsPerSecond > 0) {
+            etaSeconds = (long) Math.ceil(Math.max(0, total - done) / itemsPerSecond);
+        }
+
+        return new ProcessingJobStatus(id, state.get(), total, processed.get(), skipped.get(), failed.get(),
+                itemsPerSecond, etaSeconds, createdAt, start, finishedAt, error);
+    }
+}
@@ -0,0 +1,130 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.config.ExecutorConfig;
+import com.siemens.internship.utils.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Keeps track of background processing jobs so the HTTP layer can start a run,
+ * return immediately and let clients poll or cancel it later.
+ */
+@Component
+public class ProcessingJobRegistry {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private PartitionedItemProcessor partitionedProcessor;
+
+    /**
+     * Run jobs through lease-based partitions, for several nodes sharing one database.
+     */
+    @Value("${items.processing.partitioned:false}")
+    private boolean partitioned;
+
+    /**
+     * Spring-managed executor the jobs run on, sized by items.jobs.max-concurrent; further jobs wait as QUEUED.
+     */
+    @Autowired
+    @Qualifier(ExecutorConfig.ITEM_JOB_EXECUTOR)
+    private ExecutorService jobExecutor;
+
+    /**
+     * How many finished jobs are kept around for polling before the oldest are dropped.
+     */
+    @Value("${items.jobs.retained:100}")
+    private int retainedJobs;
+
+    private final Map<String, ProcessingJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Latest submitted job, shared by submissions while it is queued or running.
+     */
+    private ProcessingJob activeJob;
+
+    /**
+     * Stop the jobs at their next chunk boundary; the executor itself is shut down by Spring afterwards.
+     */
+    @PreDestroy
+    void shutdown() {
+        jobs.values().forEach(ProcessingJob::cancel);
+    }
+
+    /**
+     * Create a job and hand it to the job executor, unless one is still queued or running:
+     * every job walks all pending items, so a second one would only compete with the first.
+     *
+     * @return the new (QUEUED or already RUNNING) job, or the active one
+     */
+    public synchronized ProcessingJob submit() {
+        if (activeJob != null && !activeJob.isFinished() && !activeJob.isCancelRequested()) {
+            return activeJob;
+        }
+        evictFinished();
+        ProcessingJob job = new ProcessingJob(UUID.randomUUID().toString());
+        activeJob = job;
+        jobs.put(job.getId(), job);
+        job.setFuture(jobExecutor.submit(() -> {
+            if (partitioned) {
+                partitionedProcessor.run(job);
+            } else {
+                itemService.runProcessingJob(job);
+            }
+        }));
+        return job;
+    }
+
+    /**
+     * @param jobId - job identifier
+     * @return the job
+     * @throws ResourceNotFoundException if no such job is known
+     */
+    public ProcessingJob get(String jobId) {
+        ProcessingJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Processing job not found with id " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Request cancellation of a job; finished jobs are left as they are.
+     *
+     * @param jobId - job identifier
+     * @return the job
+     * @throws ResourceNotFoundException if no such job is known
+     */
+    public ProcessingJob cancel(String jobId) {
+        ProcessingJob job = get(jobId);
+        job.cancel();
+        return job;
+    }
+
+    /**
+     * Drop the oldest finished jobs once more than retainedJobs are held.
+     */
+    private void evictFinished() {
+        long excess = jobs.size() - retainedJobs + 1;
+        if (excess <= 0) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(ProcessingJob::isFinished)
+                .sorted(Comparator.comparing(job -> job.snapshot().createdAt()))
+                .limit(excess)
+                .map(ProcessingJob::getId)
+                .toList()
+                .forEach(jobs::remove);
+    }
+}
@@ -0,0 +1,34 @@
+package com.siemens.internship.service;
+
+import java.time.Instant;
+
+/**
+ * Snapshot of a {@link ProcessingJob}, returned by the job polling endpoint.
+ *
+ * @param jobId          - job identifier
+ * @param state          - current lifecycle state
+ * @param total          - items expected at start, -1 if unknown
+ * @param processed      - items switched to PROCESSED
+ * @param skipped        - items already processed (or gone) when visited
+ * @param failed         - items a processing stage failed, or whose chunk failed to persist
+ * @param itemsPerSecond - average throughput since start
+ * @param etaSeconds     - estimated seconds to completion, null when unknown or finished
+ * @param createdAt      - when the job was submitted
+ * @param startedAt      - when a worker picked it up, null while queued
+ * @param finishedAt     - when it reached a terminal state, null while active
+ * @param error          - error code for FAILED jobs ({@link ProcessingJob#PROCESSING_FAILED}), the cause is logged
+ */
+public record ProcessingJobStatus(
+        String jobId,
+        ProcessingJob.State state,
+        long total,
+        long processed,
+        long skipped,
+        long failed,
+        double itemsPerSecond,
+        Long etaSeconds,
+        Instant createdAt,
+        Instant startedAt,
+        Instant finishedAt,
+        String error) {
+}
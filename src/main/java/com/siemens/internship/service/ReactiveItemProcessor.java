@@ -0,0 +1,155 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.processing.ItemPipeline;
+import com.siemens.internship.repository.ItemRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Demand-driven alternative to processItemsAsync: read -> transform -> write as a Reactor pipeline.
+ * Nothing is materialized up front; each stage only pulls what its bounded buffer can hold,
+ * so the number of items in memory and of connections in use stays capped whatever the table size,
+ * and a slow subscriber (e.g. an SSE client) slows down the DB reader instead of piling up results.
+ *
+ * - read: keyset pages of pending items, one page per unit of demand, on boundedElastic;
+ * - transform: the ItemPipeline stages (CPU on the ForkJoin pool, IO on the IO executor),
+ *   at most transformConcurrency items at once;
+ * - write: batches claimed (SKIP LOCKED) and flushed as batched UPDATEs, writeConcurrency batches at once.
+ */
+@Component
+public class ReactiveItemProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveItemProcessor.class);
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemPipeline pipeline;
+
+    @Autowired
+    private ItemProcessingMetrics metrics;
+
+    /**
+     * Items per read query.
+     */
+    @Value("${items.reactive.read.page-size:200}")
+    private int readPageSize = 200;
+
+    /**
+     * Pages read ahead of the transform stage.
+     */
+    @Value("${items.reactive.read.prefetch:2}")
+    private int readPrefetch = 2;
+
+    /**
+     * Items transformed at the same time.
+     */
+    @Value("${items.reactive.transform.concurrency:10}")
+    private int transformConcurrency = 10;
+
+    /**
+     * Transformed items buffered ahead of the writer.
+     */
+    @Value("${items.reactive.transform.buffer:32}")
+    private int transformBuffer = 32;
+
+    /**
+     * Items per write transaction.
+     */
+    @Value("${items.reactive.write.batch-size:100}")
+    private int writeBatchSize = 100;
+
+    /**
+     * Write transactions in flight at the same time.
+     */
+    @Value("${items.reactive.write.concurrency:2}")
+    private int writeConcurrency = 2;
+
+    /**
+     * Build the pipeline; nothing runs until it is subscribed, and cancelling the subscription
+     * stops reading after the batches already in flight.
+     *
+     * @return items marked PROCESSED by this run, batch by batch
+     */
+    public Flux<Item> process() {
+        return readPending()
+                .flatMap(this::transform, transformConcurrency, transformBuffer)
+                .buffer(writeBatchSize)
+                .flatMap(this::write, writeConcurrency)
+                .flatMapIterable(Function.identity());
+    }
+
+    /**
+     * Keyset walk over pending items; Flux.generate emits one page per request, so pages are
+     * only read when downstream has room for them.
+     */
+    private Flux<Item> readPending() {
+        return Flux.<List<Item>, Long>generate(() -> Long.MIN_VALUE, (lastId, sink) -> {
+                    if (lastId == Long.MAX_VALUE) {
+                        sink.complete(); // the previous page was short
+                        return lastId;
+                    }
+                    List<Item> page = itemRepository.findPendingAfter(lastId, PageRequest.of(0, readPageSize));
+                    if (page.isEmpty()) {
+                        sink.complete();
+                        return lastId;
+                    }
+                    sink.next(page);
+                    return page.size() < readPageSize ? Long.MAX_VALUE : page.get(page.size() - 1).getId();
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(Function.identity(), readPrefetch);
+    }
+
+    /**
+     * Per-item work; a failing item is logged and counted, the rest of the run goes on.
+     * An item dropped by a stage is counted as skipped.
+     */
+    private Mono<Item> transform(Item item) {
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return Mono.fromFuture(pipeline.apply(item))
+                            .doFinally(signal -> metrics.recordItemTime(System.nanoTime() - start));
+                })
+                .switchIfEmpty(Mono.<Item>fromRunnable(() -> metrics.record(ItemProcessingMetrics.Outcome.SKIPPED)))
+                .onErrorResume(ex -> {
+                    log.warn("Processing item {} failed", item.getId(), ex);
+                    metrics.record(ItemProcessingMetrics.Outcome.FAILED);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Write a batch in one transaction and return the rows as written.
+     * Items claimed meanwhile by another worker are skipped.
+     */
+    private Mono<List<Item>> write(List<Item> batch) {
+        return Mono.fromCallable(() -> {
+                    List<Item> written = itemService.writeProcessed(batch);
+                    metrics.record(ItemProcessingMetrics.Outcome.PROCESSED, written.size());
+                    metrics.record(ItemProcessingMetrics.Outcome.SKIPPED, batch.size() - written.size());
+                    return written;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(ex -> {
+                    log.warn("Writing batch of {} items failed", batch.size(), ex);
+                    metrics.record(ItemProcessingMetrics.Outcome.FAILED, batch.size());
+                    return Mono.just(List.of());
+                });
+    }
+}
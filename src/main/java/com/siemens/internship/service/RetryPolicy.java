@@ -0,0 +1,78 @@
+package com.siemens.internship.service;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Exponential backoff with jitter for transient failures of a single item.
+ *
+ * @param maxAttempts    - attempts in total, including the first one
+ * @param initialBackoff - delay before the second attempt
+ * @param multiplier     - growth factor of the delay per attempt
+ * @param maxBackoff     - upper bound of the delay
+ */
+public record RetryPolicy(int maxAttempts, Duration initialBackoff, double multiplier, Duration maxBackoff) {
+
+    public RetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1, got " + maxAttempts);
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Backoff multiplier must be at least 1, got " + multiplier);
+        }
+    }
+
+    /**
+     * @param attempt - number of the attempt that just failed, starting at 1
+     * @param failure - what the attempt failed with
+     * @return true if another attempt is allowed after this failure
+     */
+    public boolean shouldRetry(int attempt, Throwable failure) {
+        return attempt < maxAttempts && isTransient(failure);
+    }
+
+    /**
+     * Delay before the next attempt: initialBackoff * multiplier^(attempt-1), capped at maxBackoff,
+     * of which a random half is dropped ("equal jitter") so items that failed together during an
+     * outage don't all come back at the same instant.
+     *
+     * @param attempt - number of the attempt that just failed, starting at 1
+     * @return delay in milliseconds
+     */
+    public long backoffMillis(int attempt) {
+        double exponential = initialBackoff.toMillis() * Math.pow(multiplier, attempt - 1);
+        long capped = (long) Math.min(exponential, maxBackoff.toMillis());
+        long half = capped / 2;
+        return half + (half > 0 ? ThreadLocalRandom.current().nextLong(half + 1) : 0);
+    }
+
+    /**
+     * Timeouts, lock/deadlock losers, dropped connections and pool exhaustion are worth retrying;
+     * anything else (bad data, constraint violations, bugs) would just fail again.
+     *
+     * @param failure - failure, possibly wrapped
+     * @return true if any exception in the cause chain is transient
+     */
+    public static boolean isTransient(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof TimeoutException
+                    || t instanceof TransientDataAccessException
+                    || t instanceof RecoverableDataAccessException
+                    || t instanceof DataAccessResourceFailureException
+                    || t instanceof CannotCreateTransactionException
+                    || t instanceof SQLTransientException
+                    || t instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
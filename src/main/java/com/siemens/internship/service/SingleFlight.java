@@ -0,0 +1,43 @@
+package com.siemens.internship.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls of one asynchronous task: while a run is in flight, further callers
+ * get its result instead of starting another one. The next call after it completes starts a new run.
+ *
+ * @param <T> - result type
+ */
+public class SingleFlight<T> {
+
+    private final AtomicReference<CompletableFuture<T>> inFlight = new AtomicReference<>();
+
+    /**
+     * @param task - starts a run
+     * @return future of the run in flight, or of a new one; cancelling it doesn't affect other callers
+     */
+    public CompletableFuture<T> run(Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<T> run = new CompletableFuture<>();
+        CompletableFuture<T> current = inFlight.compareAndExchange(null, run);
+        if (current != null) {
+            return current.copy();
+        }
+        try {
+            task.get().whenComplete((result, ex) -> {
+                // cleared first, so a caller seeing the completion starts a new run
+                inFlight.compareAndSet(run, null);
+                if (ex != null) {
+                    run.completeExceptionally(ex);
+                } else {
+                    run.complete(result);
+                }
+            });
+        } catch (RuntimeException ex) {
+            inFlight.compareAndSet(run, null);
+            run.completeExceptionally(ex);
+        }
+        return run.copy();
+    }
+}
@@ -0,0 +1,151 @@
+package com.siemens.internship.snapshot;
+
+import com.siemens.internship.model.Item;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.siemens.internship.snapshot.ItemSnapshotWriter.*;
+
+/**
+ * Reads a file written by {@link ItemSnapshotWriter} block by block.
+ * Each block is memory-mapped and decoded straight from the page cache, without copying the file
+ * through a heap buffer; only one block's items are on the heap at a time.
+ */
+public class ItemSnapshotReader implements AutoCloseable {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + Long.BYTES);
+    private long position;
+    private long read;
+    private boolean finished;
+
+    /**
+     * Open the file and check its header.
+     *
+     * @param file - snapshot file
+     * @throws IOException if the file can't be read or is not a snapshot of this version
+     */
+    public ItemSnapshotReader(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        ByteBuffer start = readAt(0, 2 * Integer.BYTES);
+        if (start.getInt() != MAGIC) {
+            channel.close();
+            throw new IOException("Not an item snapshot: " + file);
+        }
+        int version = start.getInt();
+        if (version != VERSION) {
+            channel.close();
+            throw new IOException("Unsupported snapshot version " + version + " in " + file);
+        }
+        position = 2 * Integer.BYTES;
+    }
+
+    /**
+     * @return items of the next block, or null after the last one
+     * @throws IOException if the file is truncated or its row count doesn't match the trailer
+     */
+    public List<Item> nextBlock() throws IOException {
+        if (finished) {
+            return null;
+        }
+        ByteBuffer blockHeader = readAt(position, Integer.BYTES);
+        int rows = blockHeader.getInt();
+        if (rows == 0) {
+            long total = readAt(position + Integer.BYTES, Long.BYTES).getLong();
+            if (total != read) {
+                throw new IOException("Snapshot " + file + " declares " + total + " items but holds " + read);
+            }
+            finished = true;
+            return null;
+        }
+        int bytes = readAt(position + Integer.BYTES, Integer.BYTES).getInt();
+        long dataStart = position + 2 * Integer.BYTES;
+        if (dataStart + bytes > channel.size()) {
+            throw new IOException("Snapshot " + file + " is truncated");
+        }
+        MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, dataStart, bytes);
+        position = dataStart + bytes;
+        read += rows;
+        return decode(data, rows);
+    }
+
+    /**
+     * @return items read so far
+     */
+    public long getRead() {
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static List<Item> decode(ByteBuffer data, int rows) {
+        long[] ids = new long[rows];
+        long[] versions = new long[rows];
+        long[] timestamps = new long[rows];
+        data.asLongBuffer().get(ids);
+        data.position(data.position() + rows * Long.BYTES);
+        data.asLongBuffer().get(versions);
+        data.position(data.position() + rows * Long.BYTES);
+        data.asLongBuffer().get(timestamps);
+        data.position(data.position() + rows * Long.BYTES);
+        String[][] strings = new String[4][];
+        for (int column = 0; column < strings.length; column++) {
+            strings[column] = decodeStrings(data, rows);
+        }
+
+        List<Item> items = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            Item item = new Item(ids[row], strings[0][row], strings[1][row], strings[2][row], strings[3][row]);
+            item.setVersion(versions[row] == NULL_LONG ? null : versions[row]);
+            item.setLastModified(timestamps[row] == NULL_LONG
+                    ? null : Instant.EPOCH.plus(timestamps[row], ChronoUnit.MICROS));
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static String[] decodeStrings(ByteBuffer data, int rows) {
+        int[] lengths = new int[rows];
+        data.asIntBuffer().get(lengths);
+        data.position(data.position() + rows * Integer.BYTES);
+        String[] values = new String[rows];
+        byte[] scratch = new byte[256];
+        for (int row = 0; row < rows; row++) {
+            int length = lengths[row];
+            if (length == NULL_LENGTH) {
+                continue;
+            }
+            if (scratch.length < length) {
+                scratch = new byte[length];
+            }
+            data.get(scratch, 0, length);
+            values[row] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        return values;
+    }
+
+    private ByteBuffer readAt(long offset, int length) throws IOException {
+        header.clear().limit(length);
+        while (header.hasRemaining()) {
+            if (channel.read(header, offset + header.position()) < 0) {
+                throw new IOException("Snapshot " + file + " is truncated");
+            }
+        }
+        return header.flip();
+    }
+}
@@ -0,0 +1,230 @@
+package com.siemens.internship.snapshot;
+
+import com.siemens.internship.cache.ItemCache;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ProcessingState;
+import com.siemens.internship.service.ItemStatsCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Saves the item table to a snapshot file and loads it back, so an in-memory database survives restarts.
+ * Both directions go through plain JDBC, without entities or the persistence context:
+ * export streams rows from a cursor into {@link ItemSnapshotWriter}, import feeds each block of
+ * {@link ItemSnapshotReader} to one batched INSERT in its own transaction.
+ *
+ * Restored rows keep their ids, versions and timestamps; the id sequence is moved past the highest id,
+ * the restored ids are evicted from the item cache and the statistics counters are rebuilt.
+ * The change feed is not part of the snapshot and the restore doesn't append to it.
+ */
+@Component
+public class ItemSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemSnapshotService.class);
+
+    private static final String SELECT_ITEMS =
+            "SELECT id, name, description, status, email, version, last_modified FROM item ORDER BY id";
+
+    private static final String INSERT_ITEM =
+            "INSERT INTO item (id, name, description, status, processing_state, email, email_domain, version, " +
+                    "last_modified) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Must match the allocationSize of item_seq on Item.id.
+     */
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ItemCache itemCache;
+
+    @Autowired
+    private ItemStatsCounters statsCounters;
+
+    /**
+     * Snapshot file used by the startup load, the shutdown save and the export endpoint.
+     */
+    @Value("${items.snapshot.path:data/items.snapshot}")
+    private Path path = Paths.get("data/items.snapshot");
+
+    /**
+     * Items per snapshot block, and per INSERT batch on import.
+     */
+    @Value("${items.snapshot.block-rows:10000}")
+    private int blockRows = 10000;
+
+    /**
+     * Load the snapshot at startup when the item table is empty.
+     */
+    @Value("${items.snapshot.load-on-startup:false}")
+    private boolean loadOnStartup;
+
+    /**
+     * Save a snapshot when the application shuts down.
+     */
+    @Value("${items.snapshot.save-on-shutdown:false}")
+    private boolean saveOnShutdown;
+
+    /**
+     * Write every item to the configured file. The file is written next to the target and moved
+     * over it at the end, so a crash never leaves a half-written snapshot behind.
+     *
+     * @return what was written
+     */
+    public synchronized SnapshotResult export() {
+        long start = System.nanoTime();
+        try {
+            Path target = path.toAbsolutePath();
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try {
+                long items = transactionTemplate.execute(status -> writeAll(temp));
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                SnapshotResult result = new SnapshotResult(target.toString(), items, Files.size(target),
+                        (System.nanoTime() - start) / 1_000_000);
+                log.info("Saved {} items to {} ({} bytes) in {} ms",
+                        result.items(), result.file(), result.bytes(), result.millis());
+                return result;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Bulk-load the configured file into the item table. Expects none of the snapshot ids to exist.
+     *
+     * @return what was loaded
+     */
+    public synchronized SnapshotResult load() {
+        long start = System.nanoTime();
+        Path source = path.toAbsolutePath();
+        long maxId = 0;
+        try (ItemSnapshotReader reader = new ItemSnapshotReader(source)) {
+            List<Item> next;
+            while ((next = reader.nextBlock()) != null) {
+                List<Item> block = next;
+                transactionTemplate.executeWithoutResult(status -> {
+                    insert(block);
+                    itemCache.evictAll(block.stream().map(Item::getId).toList());
+                });
+                maxId = Math.max(maxId, block.get(block.size() - 1).getId());
+            }
+            // ids are in ascending order, so the last one of the last block is the highest
+            jdbcTemplate.execute("ALTER SEQUENCE item_seq RESTART WITH " + (maxId + ID_ALLOCATION_SIZE));
+            // the rows bypassed ItemService, so the counters never saw them
+            statsCounters.rebuild();
+            SnapshotResult result = new SnapshotResult(source.toString(), reader.getRead(), Files.size(source),
+                    (System.nanoTime() - start) / 1_000_000);
+            log.info("Loaded {} items from {} in {} ms", result.items(), result.file(), result.millis());
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Restore the snapshot before the application takes traffic, if enabled, present,
+     * and the table is still empty (e.g. not an in-memory database after all).
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void loadOnStartup() {
+        if (!loadOnStartup) {
+            return;
+        }
+        if (!Files.isRegularFile(path)) {
+            log.info("No item snapshot at {}, starting empty", path.toAbsolutePath());
+            return;
+        }
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("Item table already holds {} rows, not loading the snapshot", existing);
+            return;
+        }
+        load();
+    }
+
+    /**
+     * Save the snapshot on shutdown, if enabled; runs before the data source is closed.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void saveOnShutdown() {
+        if (saveOnShutdown) {
+            export();
+        }
+    }
+
+    private long writeAll(Path file) {
+        try (ItemSnapshotWriter writer = new ItemSnapshotWriter(file, blockRows)) {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(SELECT_ITEMS);
+                statement.setFetchSize(blockRows);
+                return statement;
+            }, rs -> {
+                Item item = new Item(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getString(5));
+                long version = rs.getLong(6);
+                item.setVersion(rs.wasNull() ? null : version);
+                OffsetDateTime lastModified = rs.getObject(7, OffsetDateTime.class);
+                item.setLastModified(lastModified == null ? null : lastModified.toInstant());
+                try {
+                    writer.add(item);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return writer.getTotal();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void insert(List<Item> block) {
+        jdbcTemplate.batchUpdate(INSERT_ITEM, block, block.size(), (statement, item) -> {
+            statement.setLong(1, item.getId());
+            statement.setString(2, item.getName());
+            statement.setString(3, item.getDescription());
+            statement.setString(4, item.getStatus());
+            statement.setString(5, ProcessingState.of(item.getStatus()).name());
+            statement.setString(6, item.getEmail());
+            statement.setString(7, item.getEmailDomain());
+            if (item.getVersion() == null) {
+                statement.setNull(8, Types.BIGINT);
+            } else {
+                statement.setLong(8, item.getVersion());
+            }
+            if (item.getLastModified() == null) {
+                statement.setNull(9, Types.TIMESTAMP_WITH_TIMEZONE);
+            } else {
+                statement.setObject(9, item.getLastModified().atOffset(ZoneOffset.UTC));
+            }
+        });
+    }
+}
@@ -0,0 +1,161 @@
+package com.siemens.internship.snapshot;
+
+import com.siemens.internship.model.Item;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * Writes items to a snapshot file, blockRows items per block.
+ * Each block is columnar: all ids, then all versions, then all timestamps, then each string column
+ * as a run of lengths followed by the concatenated UTF-8 bytes. Values of one column sit next to each
+ * other, so a block is decoded with a few bulk reads instead of one field at a time.
+ *
+ * File layout (big-endian):
+ * <pre>
+ * header:  int MAGIC, int VERSION
+ * block:   int rows (&gt; 0), int bytes, then bytes of column data
+ * trailer: int 0, long total rows
+ * </pre>
+ * Absent values are stored as NULL_LONG (numbers) or length -1 (strings).
+ */
+public class ItemSnapshotWriter implements AutoCloseable {
+
+    static final int MAGIC = 0x49544D53; // "ITMS"
+    static final int VERSION = 1;
+    static final long NULL_LONG = Long.MIN_VALUE;
+    static final int NULL_LENGTH = -1;
+
+    private final FileChannel channel;
+    private final Item[] block;
+    private int size;
+    private long total;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+
+    /**
+     * Create (or truncate) the file and write the header.
+     *
+     * @param file      - target file
+     * @param blockRows - items per block
+     * @throws IOException if the file can't be written
+     */
+    public ItemSnapshotWriter(Path file, int blockRows) throws IOException {
+        if (blockRows <= 0) {
+            throw new IllegalArgumentException("Block rows must be positive, got " + blockRows);
+        }
+        this.block = new Item[blockRows];
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(MAGIC).putInt(VERSION).flip();
+        writeFully(buffer);
+    }
+
+    /**
+     * Queue one item, writing the block once it is full.
+     *
+     * @param item - item to store
+     * @throws IOException if the block can't be written
+     */
+    public void add(Item item) throws IOException {
+        block[size++] = item;
+        if (size == block.length) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * @return items added so far
+     */
+    public long getTotal() {
+        return total + size;
+    }
+
+    /**
+     * Write the last block and the trailer, force the file to disk and close it.
+     *
+     * @throws IOException if the file can't be written
+     */
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            flushBlock();
+            buffer.clear();
+            buffer.putInt(0).putLong(total).flip();
+            writeFully(buffer);
+            channel.force(false);
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (size == 0) {
+            return;
+        }
+        byte[][][] strings = new byte[4][size][];
+        int bytes = size * 3 * Long.BYTES + 4 * size * Integer.BYTES;
+        for (int row = 0; row < size; row++) {
+            Item item = block[row];
+            strings[0][row] = utf8(item.getName());
+            strings[1][row] = utf8(item.getDescription());
+            strings[2][row] = utf8(item.getStatus());
+            strings[3][row] = utf8(item.getEmail());
+            for (byte[][] column : strings) {
+                bytes += column[row] == null ? 0 : column[row].length;
+            }
+        }
+
+        ByteBuffer out = buffer(2 * Integer.BYTES + bytes);
+        out.putInt(size).putInt(bytes);
+        for (int row = 0; row < size; row++) {
+            out.putLong(block[row].getId());
+        }
+        for (int row = 0; row < size; row++) {
+            Long version = block[row].getVersion();
+            out.putLong(version == null ? NULL_LONG : version);
+        }
+        for (int row = 0; row < size; row++) {
+            Instant lastModified = block[row].getLastModified();
+            out.putLong(lastModified == null ? NULL_LONG : ChronoUnit.MICROS.between(Instant.EPOCH, lastModified));
+        }
+        for (byte[][] column : strings) {
+            for (byte[] value : column) {
+                out.putInt(value == null ? NULL_LENGTH : value.length);
+            }
+            for (byte[] value : column) {
+                if (value != null) {
+                    out.put(value);
+                }
+            }
+        }
+        out.flip();
+        writeFully(out);
+
+        total += size;
+        Arrays.fill(block, 0, size, null);
+        size = 0;
+    }
+
+    private ByteBuffer buffer(int capacity) {
+        if (buffer.capacity() < capacity) {
+            buffer = ByteBuffer.allocateDirect(Math.max(capacity, buffer.capacity() * 2));
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+}
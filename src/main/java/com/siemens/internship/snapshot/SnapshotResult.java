@@ -0,0 +1,12 @@
+package com.siemens.internship.snapshot;
+
+/**
+ * Summary of a snapshot export or import.
+ *
+ * @param file   - snapshot file
+ * @param items  - items written or loaded
+ * @param bytes  - size of the file
+ * @param millis - wall-clock duration
+ */
+public record SnapshotResult(String file, long items, long bytes, long millis) {
+}
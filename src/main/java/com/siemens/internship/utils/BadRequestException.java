@@ -0,0 +1,14 @@
+package com.siemens.internship.utils;
+
+/**
+ * Exception thrown when a request carries an invalid argument (e.g., a page limit out of range).
+ * Results in a 400 response via CustomExceptionHandler.
+ */
+public class BadRequestException extends RuntimeException {
+    /**
+     * @param message - detail message explaining which argument was rejected, shown to the client
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
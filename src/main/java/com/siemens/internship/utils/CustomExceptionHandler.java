@@ -11,8 +11,10 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Centralized exception handling across all controllers.
@@ -45,6 +47,17 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handle payloads rejected by our own validators (e.g. ItemValidator).
+     *
+     * @param exception thrown ValidationException
+     * @return 400 with field→message map
+     */
+    @ExceptionHandler(ValidationException.class)
+    protected ResponseEntity<Object> handleValidation(ValidationException exception) {
+        return new ResponseEntity<>(exception.getFieldErrors(), HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Handle cases where a requested resource is not found.
      *
@@ -57,16 +70,75 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errors, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handle invalid arguments rejected by the service layer (e.g. a page limit out of range).
+     *
+     * @param exception thrown BadRequestException
+     * @return 400 with error message
+     */
+    @ExceptionHandler(BadRequestException.class)
+    protected ResponseEntity<Object> handleBadRequest(BadRequestException exception) {
+        Map<String, String> errors = Map.of("Error BadRequest", String.valueOf(exception.getMessage()));
+        return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle requests over an endpoint's rate limit.
+     *
+     * @param exception thrown TooManyRequestsException
+     * @return 429 with error message and Retry-After
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    protected ResponseEntity<Object> handleTooManyRequests(TooManyRequestsException exception) {
+        Map<String, String> errors = Map.of("Error TooManyRequests", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(exception.getRetryAfter()))
+                .body(errors);
+    }
+
+    /**
+     * Handle requests shed while the application is overloaded.
+     *
+     * @param exception thrown ServiceOverloadedException
+     * @return 503 with error message and Retry-After
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    protected ResponseEntity<Object> handleServiceOverloaded(ServiceOverloadedException exception) {
+        Map<String, String> errors = Map.of("Error ServiceOverloaded", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(exception.getRetryAfter()))
+                .body(errors);
+    }
+
+    /**
+     * Handle asynchronous operations that didn't finish within their timeout.
+     *
+     * @param exception thrown TimeoutException
+     * @return 503 with error message
+     */
+    @ExceptionHandler(TimeoutException.class)
+    protected ResponseEntity<Object> handleTimeout(TimeoutException exception) {
+        Map<String, String> errors = Map.of("Error Timeout", "Request timed out");
+        return new ResponseEntity<>(errors, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Default scenario for any uncaught exceptions.
      *
      * @param exception unexpected exception
-     * @return 500 with generic message
+     * @return 500 with generic message; the exception's own message may be null or internal, so it is not sent
      */
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<Object> handleAllExceptions(Exception exception) {
-        Map<String, String> errors = Map.of("Error Generic Handler", exception.getMessage());
+        Map<String, String> errors = Map.of("Error Generic Handler", "Internal server error");
         return new ResponseEntity<>(errors, HttpStatus.INTERNAL_SERVER_ERROR);
     }
-}
 
+    /**
+     * Retry-After takes whole seconds; round up so a client never retries too early.
+     */
+    private static String retryAfterSeconds(Duration retryAfter) {
+        long seconds = retryAfter.getSeconds() + (retryAfter.getNano() > 0 ? 1 : 0);
+        return String.valueOf(Math.max(1, seconds));
+    }
+}
@@ -0,0 +1,30 @@
+package com.siemens.internship.utils;
+
+/**
+ * Exception thrown when processing one item failed for good: the failure was not transient,
+ * or every retry failed too. The cause is the failure of the last attempt.
+ */
+public class RetriesExhaustedException extends RuntimeException {
+
+    private final Long itemId;
+    private final int attempts;
+
+    /**
+     * @param itemId   - item that failed
+     * @param attempts - attempts made
+     * @param cause    - failure of the last attempt
+     */
+    public RetriesExhaustedException(Long itemId, int attempts, Throwable cause) {
+        super("Processing item " + itemId + " failed after " + attempts + " attempt(s)", cause);
+        this.itemId = itemId;
+        this.attempts = attempts;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+}
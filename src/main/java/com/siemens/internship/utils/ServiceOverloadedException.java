@@ -0,0 +1,25 @@
+package com.siemens.internship.utils;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a request is shed because the executor or the DB pool is saturated.
+ * Results in a 503 response with a Retry-After header via CustomExceptionHandler.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    /**
+     * @param message    - which resource is saturated
+     * @param retryAfter - when the client may try again
+     */
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
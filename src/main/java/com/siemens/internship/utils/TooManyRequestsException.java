@@ -0,0 +1,25 @@
+package com.siemens.internship.utils;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a client exceeds the request rate of an endpoint.
+ * Results in a 429 response with a Retry-After header via CustomExceptionHandler.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    /**
+     * @param message    - which limit was hit
+     * @param retryAfter - when the client may try again
+     */
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,24 @@
+package com.siemens.internship.utils;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a request payload fails validation.
+ * Results in a 400 response with a field → message map via CustomExceptionHandler.
+ */
+public class ValidationException extends RuntimeException {
+
+    private final Map<String, String> fieldErrors;
+
+    /**
+     * @param fieldErrors - field → message map describing what is wrong
+     */
+    public ValidationException(Map<String, String> fieldErrors) {
+        super("Validation failed for " + fieldErrors.keySet());
+        this.fieldErrors = fieldErrors;
+    }
+
+    public Map<String, String> getFieldErrors() {
+        return fieldErrors;
+    }
+}
@@ -3,19 +3,101 @@ package com.siemens.internship.validation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.util.regex.Pattern;
-
+/**
+ * Validates emails (johndoe@example.com) with a hand-written single pass scanner.
+ * It accepts exactly the language of the regex we used before:
+ * "^(?=.{1,64}@)[A-Za-z0-9_-]+(\\.[A-Za-z0-9_-]+)*@[^-][A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)*(\\.[A-Za-z]{2,})$"
+ * but runs in linear time with no backtracking and allocates nothing per call.
+ * EmailValidatorTest checks it against that regex on a fuzz corpus.
+ */
 public class EmailValidator implements ConstraintValidator<ValidEmail, String> {
 
-    // We use a reasonably strict email regex (johndoe@example.com)
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-            "^(?=.{1,64}@)[A-Za-z0-9_-]+(\\.[A-Za-z0-9_-]+)*@" +
-                    "[^-][A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)*(\\.[A-Za-z]{2,})$"
-    );
+    /**
+     * Maximum length of the part before '@'.
+     */
+    static final int MAX_LOCAL_LENGTH = 64;
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
-        // null or black will be caught by @NotBlank, so we check only the pattern matching
-        return value != null && EMAIL_PATTERN.matcher(value).matches();
+        // null or black will be caught by @NotBlank, so we check only the format
+        return value != null && isValidEmail(value);
+    }
+
+    /**
+     * @param value - candidate email, not null
+     * @return true if value is a valid email
+     */
+    public static boolean isValidEmail(CharSequence value) {
+        int length = value.length();
+        int i = 0;
+
+        // local part: dot separated atoms of [A-Za-z0-9_-], up to the first '@'
+        boolean expectAtom = true;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                break;
+            }
+            if (c == '.') {
+                if (expectAtom) {
+                    return false; // leading or double dot
+                }
+                expectAtom = true;
+            } else if (isWordChar(c) || c == '_') {
+                expectAtom = false;
+            } else {
+                return false;
+            }
+        }
+        if (i == length || expectAtom || i > MAX_LOCAL_LENGTH) {
+            return false; // no '@', empty local part, trailing dot or too long
+        }
+        i++;
+
+        // the regex's [^-]: any single code point except '-' (yes, even '.' or '@')
+        if (i == length) {
+            return false;
+        }
+        int first = Character.codePointAt(value, i);
+        if (first == '-') {
+            return false;
+        }
+        i += Character.charCount(first);
+
+        // then at least two dot separated labels of [A-Za-z0-9-], the last one letters only and 2+ long
+        int completedLabels = 0;
+        int labelLength = 0;
+        boolean lettersOnly = true;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                completedLabels++;
+                labelLength = 0;
+                lettersOnly = true;
+            } else if (isWordChar(c)) {
+                labelLength++;
+                lettersOnly &= isLetter(c);
+            } else {
+                return false;
+            }
+        }
+        return completedLabels > 0 && labelLength >= 2 && lettersOnly;
+    }
+
+    /**
+     * @return true for [A-Za-z0-9-]
+     */
+    private static boolean isWordChar(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9') || c == '-';
+    }
+
+    /**
+     * @return true for [A-Za-z]
+     */
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
     }
 }
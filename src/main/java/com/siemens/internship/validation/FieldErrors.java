@@ -0,0 +1,38 @@
+package com.siemens.internship.validation;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reusable accumulator of field → message validation errors.
+ * Bulk callers validate thousands of items with one instance, calling {@link #clear()} in between.
+ * Only the first error per field is kept, in field declaration order.
+ */
+public class FieldErrors {
+
+    private final Map<String, String> errors = new LinkedHashMap<>();
+
+    /**
+     * @param field   - field name
+     * @param message - validation message
+     */
+    public void add(String field, String message) {
+        errors.putIfAbsent(field, message);
+    }
+
+    public boolean isEmpty() {
+        return errors.isEmpty();
+    }
+
+    public void clear() {
+        errors.clear();
+    }
+
+    /**
+     * @return immutable copy of the current errors, safe to keep after {@link #clear()}
+     */
+    public Map<String, String> toMap() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(errors));
+    }
+}
@@ -0,0 +1,138 @@
+package com.siemens.internship.validation;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.utils.ValidationException;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.springframework.stereotype.Component;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Validator for Item compiled once from its @NotBlank, @Size and @ValidEmail annotations.
+ * The annotations are read reflectively only at construction; validating an item then runs
+ * a fixed list of checks over plain getters, with no reflection or violation objects on the hot path.
+ * A constrained field without a registered getter, or an unsupported constraint, fails at startup
+ * so the annotations and this validator can't silently drift apart.
+ */
+@Component
+public class ItemValidator {
+
+    /**
+     * Getters of the constrained Item fields.
+     */
+    private static final Map<String, Function<Item, String>> ACCESSORS = Map.of(
+            "name", Item::getName,
+            "description", Item::getDescription,
+            "status", Item::getStatus,
+            "email", Item::getEmail
+    );
+
+    private record Check(String field, Function<Item, String> accessor, Predicate<String> rule, String message) {
+    }
+
+    private final List<Check> checks;
+
+    public ItemValidator() {
+        this.checks = compile();
+    }
+
+    /**
+     * Validate one item into a caller-owned (reusable) accumulator.
+     *
+     * @param item   - item to check
+     * @param errors - receives the first error per invalid field
+     * @return true if the item is valid
+     */
+    public boolean validate(Item item, FieldErrors errors) {
+        boolean valid = true;
+        for (Check check : checks) {
+            if (!check.rule().test(check.accessor().apply(item))) {
+                errors.add(check.field(), check.message());
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * @param item - item to check
+     * @throws ValidationException with the field errors if the item is invalid
+     */
+    public void validateOrThrow(Item item) {
+        FieldErrors errors = new FieldErrors();
+        if (!validate(item, errors)) {
+            throw new ValidationException(errors.toMap());
+        }
+    }
+
+    private static List<Check> compile() {
+        List<Check> compiled = new ArrayList<>();
+        for (Field field : Item.class.getDeclaredFields()) {
+            for (Annotation annotation : field.getDeclaredAnnotations()) {
+                Predicate<String> rule = ruleFor(annotation);
+                if (rule == null) {
+                    continue; // not a constraint we validate on Item (e.g. JPA mapping)
+                }
+                Function<Item, String> accessor = ACCESSORS.get(field.getName());
+                if (accessor == null) {
+                    throw new IllegalStateException("No accessor registered for constrained field Item." + field.getName());
+                }
+                compiled.add(new Check(field.getName(), accessor, rule, messageOf(annotation)));
+            }
+        }
+        return List.copyOf(compiled);
+    }
+
+    private static Predicate<String> ruleFor(Annotation annotation) {
+        if (annotation instanceof NotBlank) {
+            return ItemValidator::isNotBlank;
+        }
+        if (annotation instanceof Size size) {
+            int min = size.min();
+            int max = size.max();
+            // like Hibernate Validator, null is left to @NotNull / @NotBlank
+            return value -> value == null || (value.length() >= min && value.length() <= max);
+        }
+        if (annotation instanceof ValidEmail) {
+            return value -> value != null && EmailValidator.isValidEmail(value);
+        }
+        if (annotation.annotationType().getPackageName().startsWith("jakarta.validation")) {
+            throw new IllegalStateException("Unsupported constraint on Item: " + annotation.annotationType().getName());
+        }
+        return null;
+    }
+
+    private static String messageOf(Annotation annotation) {
+        if (annotation instanceof NotBlank notBlank) {
+            return notBlank.message();
+        }
+        if (annotation instanceof Size size) {
+            return size.message()
+                    .replace("{min}", String.valueOf(size.min()))
+                    .replace("{max}", String.valueOf(size.max()));
+        }
+        return ((ValidEmail) annotation).message();
+    }
+
+    /**
+     * Same semantics as @NotBlank (not null and not only whitespace after trim()), without trimming.
+     */
+    private static boolean isNotBlank(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,52 @@
+-- Fixed schema for the fast profile (spring.jpa.hibernate.ddl-auto=none).
+-- Same DDL Hibernate generates for the entities in com.siemens.internship.model (enums as native H2 ENUMs);
+-- keep it in sync, FastStartupProfileTest validates it.
+
+CREATE SEQUENCE IF NOT EXISTS item_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS item_change_seq START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE IF NOT EXISTS dead_letter_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS item (
+    id               BIGINT NOT NULL PRIMARY KEY,
+    name             VARCHAR(100) NOT NULL,
+    description      VARCHAR(250),
+    status           VARCHAR(255) NOT NULL,
+    processing_state ENUM ('PENDING', 'PROCESSED') NOT NULL,
+    version          BIGINT,
+    last_modified    TIMESTAMP(6) WITH TIME ZONE,
+    email            VARCHAR(255) NOT NULL,
+    email_domain     VARCHAR(255)
+);
+CREATE INDEX IF NOT EXISTS idx_item_processing_state_id ON item (processing_state, id);
+CREATE INDEX IF NOT EXISTS idx_item_status_id ON item (status, id);
+CREATE INDEX IF NOT EXISTS idx_item_email_domain_id ON item (email_domain, id);
+CREATE INDEX IF NOT EXISTS idx_item_name_id ON item (name, id);
+
+CREATE TABLE IF NOT EXISTS item_change (
+    seq          BIGINT NOT NULL PRIMARY KEY,
+    item_id      BIGINT NOT NULL,
+    type         ENUM ('CREATED', 'UPDATED', 'DELETED', 'PROCESSED') NOT NULL,
+    item_version BIGINT,
+    recorded_at  TIMESTAMP(6) WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    payload      VARCHAR(4000)
+);
+
+CREATE TABLE IF NOT EXISTS dead_letter_item (
+    id              BIGINT NOT NULL PRIMARY KEY,
+    item_id         BIGINT NOT NULL UNIQUE,
+    attempts        INTEGER NOT NULL,
+    error_type      VARCHAR(255),
+    error_message   VARCHAR(2000),
+    first_failed_at TIMESTAMP(6) WITH TIME ZONE,
+    last_failed_at  TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS partition_lease (
+    partition_id BIGINT NOT NULL PRIMARY KEY,
+    range_start  BIGINT NOT NULL,
+    range_end    BIGINT NOT NULL,
+    owner        VARCHAR(255),
+    lease_until  TIMESTAMP(6) WITH TIME ZONE,
+    heartbeat_at TIMESTAMP(6) WITH TIME ZONE,
+    version      BIGINT
+);
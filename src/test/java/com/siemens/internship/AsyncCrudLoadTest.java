@@ -0,0 +1,82 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.service.ItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Load test: with Tomcat capped at 2 worker threads and a lookup that takes 200 ms, concurrent requests
+ * to GET /api/items/{id} queue for the workers, while GET /api/items/async/{id} releases them and
+ * runs as many lookups at once as the DB executor has threads.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:async-load-test",
+        "server.tomcat.threads.max=" + AsyncCrudLoadTest.TOMCAT_THREADS,
+        "server.tomcat.threads.min-spare=" + AsyncCrudLoadTest.TOMCAT_THREADS,
+        "items.db-executor.pool-size=" + AsyncCrudLoadTest.CONCURRENT_REQUESTS})
+public class AsyncCrudLoadTest {
+
+    static final int TOMCAT_THREADS = 2;
+    static final int CONCURRENT_REQUESTS = 8;
+    private static final long LOOKUP_MILLIS = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @SpyBean
+    private ItemService itemService;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Test
+    void testAsyncEndpointServesMoreConcurrentRequests() {
+        Item item = itemService.save(new Item(null, "Load", "Desc", "NEW", "load@example.com"));
+        doAnswer(inv -> {
+            Thread.sleep(LOOKUP_MILLIS);
+            return inv.callRealMethod();
+        }).when(itemService).findByIdOrThrow(anyLong());
+
+        // warm up both paths once
+        burst("/api/items/" + item.getId(), 1);
+        burst("/api/items/async/" + item.getId(), 1);
+
+        long blocking = burst("/api/items/" + item.getId(), CONCURRENT_REQUESTS);
+        long async = burst("/api/items/async/" + item.getId(), CONCURRENT_REQUESTS);
+
+        // blocking: 8 requests / 2 workers * 200 ms = ~800 ms; async: all 8 at once = ~200 ms
+        assertTrue(blocking >= CONCURRENT_REQUESTS / TOMCAT_THREADS * LOOKUP_MILLIS,
+                "blocking burst took " + blocking + " ms");
+        assertTrue(async * 2 < blocking, "async burst took " + async + " ms, blocking " + blocking + " ms");
+    }
+
+    /**
+     * @return milliseconds until every request of the burst answered 200
+     */
+    private long burst(String path, int requests) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = IntStream.range(0, requests)
+                .mapToObj(i -> client.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+                .toList();
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.join().statusCode(), path);
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,111 @@
+package com.siemens.internship;
+
+import com.siemens.internship.validation.EmailValidator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Differential tests of the hand-written EmailValidator against the regex it replaced.
+ */
+public class EmailValidatorTest {
+
+    /**
+     * The regex EmailValidator used before; the reference language.
+     */
+    private static final Pattern REFERENCE = Pattern.compile(
+            "^(?=.{1,64}@)[A-Za-z0-9_-]+(\\.[A-Za-z0-9_-]+)*@" +
+                    "[^-][A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)*(\\.[A-Za-z]{2,})$"
+    );
+
+    /**
+     * Building blocks for the fuzz corpus: valid characters, separators, line terminators,
+     * non-ASCII, a surrogate pair and lone surrogates.
+     */
+    private static final String[] ALPHABET = {
+            "a", "b", "Z", "0", "9", "_", "-", ".", "@", " ", "\n", "\r", "\u00e9", "\uD83D\uDE00", "\uD83D", "\uDE00"
+    };
+
+    private final EmailValidator validator = new EmailValidator();
+
+    /**
+     * Hand picked edge cases agree with the regex.
+     */
+    @Test
+    void testCorpus() {
+        List<String> corpus = List.of(
+                "", "@", "a@", "@b.cd", "a@b.cd", "a@bc.de", "john.doe@example.com", "john..doe@example.com",
+                ".john@example.com", "john.@example.com", "a_b-c@ex-ample.co", "a@-b.cd", "a@.bc.de", "a@@bc.de",
+                "a@b.c", "a@b.c1", "a@bc.de.", "a@bc..de", "a@bc.de\n", "a@\nbc.de", "a@\u00e9bc.de",
+                "a@\uD83D\uDE00bc.de", "a@\uD83Dbc.de", "a@bc.d\u00e9", "A@BC.DE", "a@1b.cd", "a@b-.cd",
+                "a".repeat(64) + "@bc.de", "a".repeat(65) + "@bc.de", "a@b.cd@e.fg", "a b@cd.ef"
+        );
+        for (String value : corpus) {
+            assertEquals(REFERENCE.matcher(value).matches(), validator.isValid(value, null),
+                    () -> "disagreement on [" + value + "]");
+        }
+        assertFalse(validator.isValid(null, null));
+    }
+
+    /**
+     * Random inputs (fixed seed) agree with the regex, including many near-valid ones.
+     */
+    @Test
+    void testFuzzAgainstRegex() {
+        Random random = new Random(20240517L);
+        int accepted = 0;
+        for (int round = 0; round < 200_000; round++) {
+            String value = round % 2 == 0 ? randomString(random) : nearValidEmail(random);
+            boolean expected = REFERENCE.matcher(value).matches();
+            assertEquals(expected, EmailValidator.isValidEmail(value), () -> "disagreement on [" + value + "]");
+            if (expected) {
+                accepted++;
+            }
+        }
+        // make sure the corpus exercises the accepting paths too
+        assertTrue(accepted > 10_000, "only " + accepted + " valid samples");
+    }
+
+    /**
+     * Inputs that make the regex backtrack are handled in linear time.
+     */
+    @Test
+    void testPathologicalInputIsLinear() {
+        String local = "a.".repeat(31) + "a";
+        String domain = "a-".repeat(500_000) + "a.a";
+        String value = local + "@" + domain;
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> assertFalse(EmailValidator.isValidEmail(value)));
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(20);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static String nearValidEmail(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int localLength = 1 + random.nextInt(70);
+        for (int i = 0; i < localLength; i++) {
+            sb.append(i > 0 && random.nextInt(8) == 0 ? "." : "a");
+        }
+        sb.append('@').append(ALPHABET[random.nextInt(ALPHABET.length)]).append("ab");
+        int labels = random.nextInt(3);
+        for (int i = 0; i < labels; i++) {
+            sb.append('.').append(random.nextBoolean() ? "x-1" : "cd");
+        }
+        sb.append('.').append(random.nextInt(4) == 0 ? "c" : "com");
+        if (random.nextInt(10) == 0) {
+            sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return sb.toString();
+    }
+}
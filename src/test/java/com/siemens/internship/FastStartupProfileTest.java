@@ -0,0 +1,45 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.Item;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Boots the fast profile on its fixed schema. Hibernate validates db/schema.sql against the entities
+ * here, so a mapping change without a matching schema change fails this test instead of production.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:fast-startup",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true"})
+@ActiveProfiles("fast")
+public class FastStartupProfileTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    /**
+     * We test that the lazily initialized application serves reads and writes on the script-created tables
+     */
+    @Test
+    void testServesRequestsOnFixedSchema() {
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/api/items", Item[].class).getStatusCode());
+
+        ResponseEntity<Item> created = restTemplate.postForEntity("/api/items",
+                new Item(null, "Fast", "Desc", "NEW", "fast@example.com"), Item.class);
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        assertNotNull(created.getBody());
+
+        Item[] items = restTemplate.getForObject("/api/items", Item[].class);
+        assertEquals(1, items.length);
+        assertEquals("Fast", items[0].getName());
+    }
+}
@@ -0,0 +1,43 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.service.ItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * processItemsAsync through the real @Async proxy with a single execution permit: the coordinating call
+ * must not hold the permit its per-item tasks wait for.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:async-processing-test",
+        "items.executor.max-in-flight=1",
+        "items.processing.simulated-work-ms=0"})
+public class ItemAsyncProcessingTest {
+
+    private static final int ITEMS = 5;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Test
+    void testProcessesWithOnePermit() throws Exception {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(new Item(null, "Item" + i, "Desc", "NEW", "item" + i + "@example.com"));
+        }
+        itemService.createAll(items);
+
+        List<Item> processed = itemService.processItemsAsync().get(10, TimeUnit.SECONDS);
+
+        assertEquals(ITEMS, processed.size());
+        processed.forEach(item -> assertEquals("PROCESSED", item.getStatus()));
+    }
+}
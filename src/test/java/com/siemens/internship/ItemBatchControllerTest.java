@@ -0,0 +1,185 @@
+package com.siemens.internship;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siemens.internship.controller.ItemBatchController;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.ratelimit.LoadShedder;
+import com.siemens.internship.ratelimit.RateLimiter;
+import com.siemens.internship.service.ItemService;
+import com.siemens.internship.utils.CustomExceptionHandler;
+import com.siemens.internship.validation.ItemValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ItemBatchController.class)
+@Import({CustomExceptionHandler.class, ItemValidator.class})
+public class ItemBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemBatchController batchController;
+
+    @MockBean
+    private ItemService itemService;
+
+    @MockBean
+    private RateLimiter rateLimiter;
+
+    @MockBean
+    private LoadShedder loadShedder;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Test that POST /api/items/batch creates the valid entries and reports the invalid ones
+     */
+    @Test
+    void testCreateItemsMixed() throws Exception {
+        List<Item> body = List.of(
+                new Item(null, "Good", "Desc", "NEW", "good@example.com"),
+                new Item(null, "", "Desc", "NEW", "not-an-email"));
+        when(itemService.createAll(anyList()))
+                .thenReturn(List.of(new Item(10L, "Good", "Desc", "NEW", "good@example.com")));
+
+        mockMvc.perform(post("/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].id").value(10L))
+                .andExpect(jsonPath("$.results[1].outcome").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].errors.email").exists());
+    }
+
+    /**
+     * Test that PUT /api/items/batch accepts NDJSON and reports unknown ids as NOT_FOUND
+     */
+    @Test
+    void testUpdateItemsNdjson() throws Exception {
+        Item one = new Item(1L, "One", "Desc", "NEW", "one@example.com");
+        Item two = new Item(2L, "Two", "Desc", "NEW", "two@example.com");
+        when(itemService.updateAll(anyList())).thenReturn(Map.of(1L, one));
+
+        String ndjson = objectMapper.writeValueAsString(one) + "\n" + objectMapper.writeValueAsString(two) + "\n";
+        mockMvc.perform(put("/api/items/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"));
+    }
+
+    /**
+     * Test that DELETE /api/items/batch reports deleted and missing ids
+     */
+    @Test
+    void testDeleteItems() throws Exception {
+        when(itemService.deleteAllById(anyList())).thenReturn(Set.of(3L));
+
+        mockMvc.perform(delete("/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[3, 4]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].outcome").value("DELETED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"));
+    }
+
+    /**
+     * Test that null entries answer BAD_REQUEST (400) with one error per index, without reaching the service
+     */
+    @Test
+    void testNullEntriesRejected() throws Exception {
+        mockMvc.perform(post("/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[null]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['[0]']").value("Item must not be null"));
+        mockMvc.perform(put("/api/items/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("null\n"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[3, null]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['[1]']").value("Id is required"));
+
+        verify(itemService, never()).createAll(anyList());
+        verify(itemService, never()).updateAll(anyList());
+        verify(itemService, never()).deleteAllById(anyList());
+    }
+
+    /**
+     * Test that an NDJSON body over the batch limit is rejected without reaching the service
+     */
+    @Test
+    void testDeleteItemsNdjsonOverLimit() throws Exception {
+        ReflectionTestUtils.setField(batchController, "maxBatchSize", 2);
+        try {
+            mockMvc.perform(delete("/api/items/batch")
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .content("1\n2\n3\n4\n"))
+                    .andExpect(status().isBadRequest());
+            verify(itemService, never()).deleteAllById(anyList());
+        } finally {
+            ReflectionTestUtils.setField(batchController, "maxBatchSize", 10000);
+        }
+    }
+
+    /**
+     * Test that a JSON array over the batch limit is rejected at the first extra element,
+     * so the truncated rest of the body is never read
+     */
+    @Test
+    void testCreateItemsJsonOverLimit() throws Exception {
+        ReflectionTestUtils.setField(batchController, "maxBatchSize", 2);
+        try {
+            String item = objectMapper.writeValueAsString(new Item(null, "Good", "Desc", "NEW", "good@example.com"));
+            mockMvc.perform(post("/api/items/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[" + item + "," + item + "," + item + ",{\"name\":"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$['Error BadRequest']").value("Batch size must be at most 2"));
+            verify(itemService, never()).createAll(anyList());
+        } finally {
+            ReflectionTestUtils.setField(batchController, "maxBatchSize", 10000);
+        }
+    }
+
+    /**
+     * Test that a batch body which isn't a JSON array is a bad request
+     */
+    @Test
+    void testDeleteItemsNotAnArray() throws Exception {
+        mockMvc.perform(delete("/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\": 3}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[3, \"four\"]"))
+                .andExpect(status().isBadRequest());
+        verify(itemService, never()).deleteAllById(anyList());
+    }
+}
@@ -0,0 +1,48 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.ItemChange;
+import com.siemens.internship.service.ItemChangeLog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Change feed reads against the real database: a page stops at the first entry that is not settled yet,
+ * even when a later seq carries an older recordedAt.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:change-log-test")
+public class ItemChangeLogTest {
+
+    private static final long SINCE = 1_000_000L;
+
+    @Autowired
+    private ItemChangeLog changeLog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testReadsStopAtTheFirstUnsettledEntry() {
+        insert(SINCE + 1, "DATEADD('HOUR', -1, CURRENT_TIMESTAMP)");
+        // a transaction that started late got the lower seq
+        insert(SINCE + 2, "CURRENT_TIMESTAMP");
+        insert(SINCE + 3, "DATEADD('HOUR', -1, CURRENT_TIMESTAMP)");
+
+        assertEquals(List.of(SINCE + 1), changeLog.findSince(SINCE, 10).stream().map(ItemChange::getSeq).toList());
+
+        List<Long> streamed = new ArrayList<>();
+        changeLog.forEachSince(SINCE, change -> streamed.add(change.getSeq()));
+        assertEquals(List.of(SINCE + 1), streamed);
+    }
+
+    private void insert(long seq, String recordedAt) {
+        jdbcTemplate.update("INSERT INTO item_change (seq, item_id, type, recorded_at) VALUES (?, 1, 'DELETED', "
+                + recordedAt + ")", seq);
+    }
+}
@@ -1,11 +1,33 @@
 package com.siemens.internship;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.siemens.internship.cache.CacheStats;
+import com.siemens.internship.config.WireFormatConfig;
 import com.siemens.internship.controller.ItemController;
+import com.siemens.internship.model.DeadLetterItem;
 import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChange;
+import com.siemens.internship.model.ItemSearchCriteria;
+import com.siemens.internship.ratelimit.LoadShedder;
+import com.siemens.internship.ratelimit.RateLimiter;
+import com.siemens.internship.service.AsyncItemService;
+import com.siemens.internship.service.BulkProcessingResult;
+import com.siemens.internship.service.DeadLetterReplayResult;
+import com.siemens.internship.service.ItemChangeLog;
 import com.siemens.internship.service.ItemService;
+import com.siemens.internship.service.ItemStats;
+import com.siemens.internship.service.ProcessingJob;
+import com.siemens.internship.service.ProcessingJobRegistry;
+import com.siemens.internship.service.ReactiveItemProcessor;
+import com.siemens.internship.snapshot.ItemSnapshotService;
+import com.siemens.internship.snapshot.SnapshotResult;
 import com.siemens.internship.utils.CustomExceptionHandler;
+import com.siemens.internship.utils.ServiceOverloadedException;
+import com.siemens.internship.utils.TooManyRequestsException;
+import com.siemens.internship.validation.ItemValidator;
 import com.siemens.internship.utils.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -13,16 +35,31 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ItemController.class)
-@Import(CustomExceptionHandler.class)
+@Import({CustomExceptionHandler.class, ItemValidator.class, WireFormatConfig.class})
 public class ItemControllerTest {
 
     @Autowired
@@ -31,8 +68,34 @@ public class ItemControllerTest {
     @MockBean
     private ItemService itemService;
 
+    @MockBean
+    private AsyncItemService asyncItemService;
+
+    @MockBean
+    private ProcessingJobRegistry jobRegistry;
+
+    @MockBean
+    private ReactiveItemProcessor reactiveProcessor;
+
+    @MockBean
+    private ItemChangeLog changeLog;
+
+    @MockBean
+    private ItemSnapshotService snapshotService;
+
+    @MockBean
+    private RateLimiter rateLimiter;
+
+    @MockBean
+    private LoadShedder loadShedder;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    @BeforeEach
+    void setup() {
+        when(changeLog.getCollectionVersion()).thenReturn("1-0");
+    }
+
     /**
      * Test that GET /api/items should return OK (200) with a JSON path array
      */
@@ -46,6 +109,66 @@ public class ItemControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1L));
     }
 
+    /**
+     * Test that GET /api/items is tagged with the collection version and a matching
+     * If-None-Match returns NOT_MODIFIED (304) without querying
+     */
+    @Test
+    void testGetAllItemsNotModified() throws Exception {
+        mockMvc.perform(get("/api/items"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"1-0\""));
+
+        mockMvc.perform(get("/api/items").header("If-None-Match", "\"1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Vary", "Accept"));
+        mockMvc.perform(get("/api/items").param("limit", "10").header("If-None-Match", "\"1-0\""))
+                .andExpect(status().isNotModified());
+
+        verify(itemService).findAll();
+        verify(itemService, never()).findPage(any(), anyInt());
+    }
+
+    /**
+     * Test that GET /api/items negotiates CBOR and Smile from the Accept header
+     */
+    @Test
+    void testGetAllItemsBinaryFormats() throws Exception {
+        when(itemService.findAll())
+                .thenReturn(List.of(new Item(1L, "Name", "Desc", "UNPROCESSED", "test@example.com")));
+
+        MvcResult cbor = mockMvc.perform(get("/api/items").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("Vary", "Accept"))
+                .andReturn();
+        Item[] decoded = new ObjectMapper(new CBORFactory())
+                .readValue(cbor.getResponse().getContentAsByteArray(), Item[].class);
+        assertEquals("Name", decoded[0].getName());
+
+        mockMvc.perform(get("/api/items").accept(WireFormatConfig.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(WireFormatConfig.APPLICATION_SMILE));
+    }
+
+    /**
+     * Test that the change feed, which embeds raw JSON, refuses binary formats
+     */
+    @Test
+    void testGetChangesJsonOnly() throws Exception {
+        mockMvc.perform(get("/api/items/changes").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    /**
+     * Test that single items stay JSON only; the binary formats are for the list endpoints
+     */
+    @Test
+    void testGetItemByIdJsonOnly() throws Exception {
+        mockMvc.perform(get("/api/items/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isNotAcceptable());
+    }
+
     /**
      * Test that when we POST a valid Item, it returns CREATED (201) with JSON body
      */
@@ -71,7 +194,9 @@ public class ItemControllerTest {
         mockMvc.perform(post("/api/items")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(invalidItem)))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.name").value("Name is required"))
+                .andExpect(jsonPath("$.email").value("Email must be valid: example@domain.com"));
     }
 
     /**
@@ -87,6 +212,57 @@ public class ItemControllerTest {
                 .andExpect(jsonPath("$.name").value("NameGet"));
     }
 
+    /**
+     * Test that GET /api/items/{id} sends the version as a weak ETag, varying by Accept, and the last write
+     * time as Last-Modified
+     */
+    @Test
+    void testGetItemByIdSendsValidators() throws Exception {
+        Item item = new Item(1L, "NameGet", "Desc", "UNPROCESSED", "test@example.com");
+        item.setVersion(3L);
+        item.setLastModified(Instant.parse("2024-01-02T03:04:05Z"));
+        when(itemService.findVersion(1L)).thenReturn(Optional.of(3L));
+        when(itemService.findByIdOrThrow(1L)).thenReturn(item);
+
+        mockMvc.perform(get("/api/items/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"3\""))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(header().string("Last-Modified", "Tue, 02 Jan 2024 03:04:05 GMT"));
+    }
+
+    /**
+     * Test that GET /api/items/{id} with a matching If-None-Match returns NOT_MODIFIED (304)
+     * without loading the item
+     */
+    @Test
+    void testGetItemByIdNotModified() throws Exception {
+        when(itemService.findVersion(1L)).thenReturn(Optional.of(3L));
+
+        mockMvc.perform(get("/api/items/1").header("If-None-Match", "W/\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues("ETag", "W/\"3\""))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(content().string(""));
+
+        verify(itemService, never()).findByIdOrThrow(anyLong());
+    }
+
+    /**
+     * Test that a stale If-None-Match gets the current item
+     */
+    @Test
+    void testGetItemByIdModified() throws Exception {
+        Item item = new Item(1L, "NameGet", "Desc", "UNPROCESSED", "test@example.com");
+        item.setVersion(4L);
+        when(itemService.findVersion(1L)).thenReturn(Optional.of(4L));
+        when(itemService.findByIdOrThrow(1L)).thenReturn(item);
+
+        mockMvc.perform(get("/api/items/1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"4\""));
+    }
+
     /**
      * Test that GET /api/items/{id} returns NOT_FOUND (404) when not found
      */
@@ -99,6 +275,19 @@ public class ItemControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    /**
+     * Test that an IllegalArgumentException from below the service answers INTERNAL_SERVER_ERROR (500)
+     * without its message, even when it has none
+     */
+    @Test
+    void testGetItemByIdUnexpectedIllegalArgument() throws Exception {
+        when(itemService.findByIdOrThrow(1L)).thenThrow(new IllegalArgumentException());
+
+        mockMvc.perform(get("/api/items/1"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$['Error Generic Handler']").value("Internal server error"));
+    }
+
     /**
      * Test that the PUT operation with a valid Item returns OK (200)
      */
@@ -135,4 +324,383 @@ public class ItemControllerTest {
         mockMvc.perform(delete("/api/items/1"))
                 .andExpect(status().isNoContent());
     }
+
+    /**
+     * Test that POST /api/items/process/bulk returns OK (200) with the run summary
+     */
+    @Test
+    void testProcessItemsBulk() throws Exception {
+        when(itemService.processItemsInChunks(500)).thenReturn(new BulkProcessingResult(10, 7, 1));
+
+        mockMvc.perform(post("/api/items/process/bulk").param("chunkSize", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(7))
+                .andExpect(jsonPath("$.chunks").value(1));
+    }
+
+    /**
+     * Test that GET /api/items/async/{id} answers once the lookup completes, with the same validators
+     */
+    @Test
+    void testGetItemByIdAsync() throws Exception {
+        Item item = new Item(1L, "Name", "Desc", "NEW", "valid@example.com");
+        item.setVersion(3L);
+        when(asyncItemService.findById(1L)).thenReturn(CompletableFuture.completedFuture(item));
+
+        MvcResult result = mockMvc.perform(get("/api/items/async/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"3\""))
+                .andExpect(jsonPath("$.name").value("Name"));
+    }
+
+    /**
+     * Test that a failed or timed out asynchronous call maps to NOT_FOUND (404) or SERVICE_UNAVAILABLE (503)
+     */
+    @Test
+    void testGetItemByIdAsyncFailures() throws Exception {
+        when(asyncItemService.findById(1L))
+                .thenReturn(CompletableFuture.failedFuture(new ResourceNotFoundException("Item not found with id 1")));
+        when(asyncItemService.findById(2L)).thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        MvcResult missing = mockMvc.perform(get("/api/items/async/1")).andReturn();
+        mockMvc.perform(asyncDispatch(missing)).andExpect(status().isNotFound());
+        MvcResult timedOut = mockMvc.perform(get("/api/items/async/2")).andReturn();
+        mockMvc.perform(asyncDispatch(timedOut)).andExpect(status().isServiceUnavailable());
+    }
+
+    /**
+     * Test that POST /api/items/async validates synchronously and answers CREATED (201) once saved
+     */
+    @Test
+    void testCreateItemAsync() throws Exception {
+        Item item = new Item(null, "Valid", "Desc", "NEW", "valid@example.com");
+        Item saved = new Item(5L, "Valid", "Desc", "NEW", "valid@example.com");
+        when(asyncItemService.save(any(Item.class))).thenReturn(CompletableFuture.completedFuture(saved));
+
+        MvcResult result = mockMvc.perform(post("/api/items/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(item)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(5));
+
+        mockMvc.perform(post("/api/items/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new Item(null, "", "Desc", "NEW", "bad"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test that DELETE /api/items/async/{id} answers NO_CONTENT (204) once deleted
+     */
+    @Test
+    void testDeleteItemAsync() throws Exception {
+        when(asyncItemService.deleteById(1L)).thenReturn(CompletableFuture.completedFuture(null));
+
+        MvcResult result = mockMvc.perform(delete("/api/items/async/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isNoContent());
+    }
+
+    /**
+     * Test that concurrent GET /api/items/process calls share one processing run
+     */
+    @Test
+    void testProcessItemsSingleFlight() throws Exception {
+        CompletableFuture<List<Item>> run = new CompletableFuture<>();
+        when(itemService.processItemsAsync()).thenReturn(run);
+
+        MvcResult first = mockMvc.perform(get("/api/items/process"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult second = mockMvc.perform(get("/api/items/process"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        verify(itemService, times(1)).processItemsAsync();
+
+        run.complete(List.of(new Item(1L, "One", "Desc", "PROCESSED", "one@example.com")));
+        for (MvcResult result : List.of(first, second)) {
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$[0].id").value(1));
+        }
+    }
+
+    /**
+     * Test that a client over the rate limit gets TOO_MANY_REQUESTS (429) with Retry-After, and nothing is saved
+     */
+    @Test
+    void testCreateItemRateLimited() throws Exception {
+        doThrow(new TooManyRequestsException("Rate limit of create exceeded", Duration.ofMillis(200)))
+                .when(rateLimiter).acquire(eq("create"), anyString());
+        Item item = new Item(null, "Valid", "Desc", "NEW", "valid@example.com");
+
+        mockMvc.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(item)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+        verify(itemService, never()).save(any());
+    }
+
+    /**
+     * Test that processing is shed with SERVICE_UNAVAILABLE (503) and Retry-After while overloaded
+     */
+    @Test
+    void testProcessItemsShedWhenOverloaded() throws Exception {
+        doThrow(new ServiceOverloadedException("Item executor is saturated", Duration.ofSeconds(2)))
+                .when(loadShedder).checkCapacity(true);
+
+        mockMvc.perform(get("/api/items/process"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
+        verify(itemService, never()).processItemsAsync();
+        verify(rateLimiter, never()).acquire(anyString(), anyString());
+    }
+
+    /**
+     * Test that POST /api/items/process returns ACCEPTED (202) with a job id and Location header
+     */
+    @Test
+    void testStartProcessingJob() throws Exception {
+        when(jobRegistry.submit()).thenReturn(new ProcessingJob("job-1"));
+
+        mockMvc.perform(post("/api/items/process"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/items/process/job-1"))
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.state").value("QUEUED"));
+    }
+
+    /**
+     * Test that polling an unknown job returns NOT_FOUND (404)
+     */
+    @Test
+    void testGetProcessingJobNotFound() throws Exception {
+        when(jobRegistry.get("missing")).thenThrow(new ResourceNotFoundException("not found"));
+
+        mockMvc.perform(get("/api/items/process/missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Test that DELETE /api/items/process/{jobId} cancels a queued job
+     */
+    @Test
+    void testCancelProcessingJob() throws Exception {
+        ProcessingJob job = new ProcessingJob("job-2");
+        when(jobRegistry.cancel("job-2")).thenAnswer(inv -> {
+            job.cancel();
+            return job;
+        });
+
+        mockMvc.perform(delete("/api/items/process/job-2"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.state").value("CANCELLED"));
+    }
+
+    /**
+     * Test that GET /api/items with limit returns one page and a next cursor when the page is full
+     */
+    @Test
+    void testGetItemsPage() throws Exception {
+        when(itemService.findPage(5L, 2)).thenReturn(List.of(
+                new Item(6L, "Six", "Desc", "NEW", "six@example.com"),
+                new Item(9L, "Nine", "Desc", "NEW", "nine@example.com")));
+
+        mockMvc.perform(get("/api/items").param("after", "5").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].id").value(9L))
+                .andExpect(header().string("X-Next-Cursor", "9"));
+    }
+
+    /**
+     * Test that GET /api/items/search passes the filters on and links the next page with the same filters
+     */
+    @Test
+    void testSearchItems() throws Exception {
+        when(itemService.search(new ItemSearchCriteria("NEW", "example.com", "It"), 5L, 2)).thenReturn(List.of(
+                new Item(6L, "Item6", "Desc", "NEW", "six@example.com"),
+                new Item(9L, "Item9", "Desc", "NEW", "nine@example.com")));
+
+        mockMvc.perform(get("/api/items/search")
+                        .param("status", "NEW")
+                        .param("domain", "Example.com")
+                        .param("namePrefix", "It")
+                        .param("after", "5")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].id").value(9L))
+                .andExpect(header().string("X-Next-Cursor", "9"))
+                .andExpect(header().string("Link",
+                        "</api/items/search?status=NEW&domain=Example.com&namePrefix=It&after=9&limit=2>; rel=\"next\""));
+    }
+
+    /**
+     * Test that Accept: application/x-ndjson streams one JSON document per line
+     */
+    @Test
+    void testStreamItemsNdjson() throws Exception {
+        doAnswer(inv -> {
+            Consumer<Item> consumer = inv.getArgument(0);
+            consumer.accept(new Item(1L, "One", "Desc", "NEW", "one@example.com"));
+            consumer.accept(new Item(2L, "Two", "Desc", "NEW", "two@example.com"));
+            return 2L;
+        }).when(itemService).forEachItem(any());
+
+        MvcResult result = mockMvc.perform(get("/api/items").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(2L, objectMapper.readValue(lines[1], Item.class).getId());
+    }
+
+    /**
+     * Test that GET /api/items/process/stream sends each processed item as a Server-Sent Event
+     */
+    @Test
+    void testStreamProcessingSse() throws Exception {
+        when(reactiveProcessor.process()).thenReturn(Flux.just(
+                new Item(1L, "One", "Desc", "PROCESSED", "one@example.com"),
+                new Item(2L, "Two", "Desc", "PROCESSED", "two@example.com")));
+
+        MvcResult result = mockMvc.perform(get("/api/items/process/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] events = body.split("\n\n");
+        assertEquals(2, events.length);
+        assertEquals(2L, objectMapper.readValue(events[1].substring("data:".length()), Item.class).getId());
+    }
+
+    /**
+     * Test that GET /api/items/dead-letters exposes the error type but not the raw error message
+     */
+    @Test
+    void testGetDeadLettersHidesErrorMessage() throws Exception {
+        DeadLetterItem letter = new DeadLetterItem(1L);
+        letter.setAttempts(3);
+        letter.setErrorType(IllegalStateException.class.getName());
+        letter.setErrorMessage("Connection to db-internal:5432 refused");
+        when(itemService.findDeadLetters(100)).thenReturn(List.of(letter));
+
+        mockMvc.perform(get("/api/items/dead-letters"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].itemId").value(1))
+                .andExpect(jsonPath("$[0].errorType").value(IllegalStateException.class.getName()))
+                .andExpect(jsonPath("$[0].errorMessage").doesNotExist());
+    }
+
+    /**
+     * Test that POST /api/items/dead-letters/replay returns the replay summary
+     */
+    @Test
+    void testReplayDeadLetters() throws Exception {
+        when(itemService.replayDeadLetters())
+                .thenReturn(CompletableFuture.completedFuture(new DeadLetterReplayResult(3, 2, 1)));
+
+        MvcResult result = mockMvc.perform(post("/api/items/dead-letters/replay"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replayed").value(3))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(1));
+    }
+
+    /**
+     * Test that GET /api/items/changes returns the changes after the cursor, with the item
+     * nested as JSON, and the cursor to resume from
+     */
+    @Test
+    void testGetChanges() throws Exception {
+        ItemChange change = new ItemChange();
+        change.setSeq(42L);
+        change.setItemId(1L);
+        change.setType(ItemChange.Type.UPDATED);
+        change.setPayload("{\"id\":1,\"status\":\"NEW\"}");
+        when(changeLog.findSince(41L, 100)).thenReturn(List.of(change));
+
+        mockMvc.perform(get("/api/items/changes").param("since", "41"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].seq").value(42))
+                .andExpect(jsonPath("$[0].type").value("UPDATED"))
+                .andExpect(jsonPath("$[0].item.status").value("NEW"))
+                .andExpect(header().string("X-Next-Cursor", "42"));
+    }
+
+    /**
+     * Test that an empty change page keeps the caller's cursor
+     */
+    @Test
+    void testGetChangesEmpty() throws Exception {
+        when(changeLog.findSince(42L, 100)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/items/changes").param("since", "42"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty())
+                .andExpect(header().string("X-Next-Cursor", "42"));
+    }
+
+    /**
+     * Test that POST /api/items/snapshot saves a snapshot and reports it
+     */
+    @Test
+    void testSaveSnapshot() throws Exception {
+        when(snapshotService.export()).thenReturn(new SnapshotResult("/data/items.snapshot", 3, 120, 5));
+
+        mockMvc.perform(post("/api/items/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").value(3))
+                .andExpect(jsonPath("$.file").value("/data/items.snapshot"));
+    }
+
+    /**
+     * Test that GET /api/items/stats returns the counts per status and per email domain
+     */
+    @Test
+    void testGetStats() throws Exception {
+        when(itemService.stats()).thenReturn(new ItemStats(3,
+                Map.of("NEW", 2L, "PROCESSED", 1L), Map.of("example.com", 3L)));
+
+        mockMvc.perform(get("/api/items/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byStatus.NEW").value(2))
+                .andExpect(jsonPath("$.byEmailDomain['example.com']").value(3));
+    }
+
+    /**
+     * Test that GET /api/items/cache/stats reports the counters and the hit ratio
+     */
+    @Test
+    void testGetCacheStats() throws Exception {
+        when(itemService.cacheStats()).thenReturn(new CacheStats(2, 100, 3, 1, 0, 1));
+
+        mockMvc.perform(get("/api/items/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(3))
+                .andExpect(jsonPath("$.misses").value(1))
+                .andExpect(jsonPath("$.hitRatio").value(0.75));
+    }
 }
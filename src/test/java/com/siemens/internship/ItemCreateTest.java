@@ -0,0 +1,55 @@
+package com.siemens.internship;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siemens.internship.model.Item;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * POST against the real database: an id in the body is ignored and the item is created under a fresh one.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:create-test")
+public class ItemCreateTest {
+
+    private static final long CLIENT_ID = 424242L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Test
+    void testCreateIgnoresIdInBody() throws Exception {
+        assertCreated("/api/items");
+        assertCreated("/api/items/async");
+    }
+
+    private void assertCreated(String path) throws Exception {
+        String body = "{\"id\":" + CLIENT_ID + ",\"name\":\"WithId\",\"description\":\"Desc\","
+                + "\"status\":\"NEW\",\"email\":\"with.id@example.com\"}";
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(201, response.statusCode(), response.body());
+        Item created = objectMapper.readValue(response.body(), Item.class);
+        assertNotEquals(CLIENT_ID, created.getId());
+        assertEquals("WithId", created.getName());
+    }
+}
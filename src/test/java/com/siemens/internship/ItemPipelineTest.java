@@ -0,0 +1,120 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.processing.ItemPipeline;
+import com.siemens.internship.processing.ItemProcessor;
+import com.siemens.internship.processing.MarkProcessedProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemPipelineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ExecutorService ioExecutor = Executors.newFixedThreadPool(2);
+
+    private final ForkJoinPool cpuPool = new ForkJoinPool(2);
+
+    /**
+     * Thread each stage ran on, by stage name.
+     */
+    private final Map<String, Thread> threads = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void tearDown() {
+        ioExecutor.shutdownNow();
+        cpuPool.shutdownNow();
+    }
+
+    /**
+     * Consecutive stages of the same kind are fused; CPU segments run on the ForkJoin pool
+     * and IO segments on the IO executor; every stage is timed
+     */
+    @Test
+    void testStagesAreFusedAndRunOnTheirPool() throws Exception {
+        ItemPipeline pipeline = pipeline(
+                stage("fetch", ItemProcessor.Kind.IO),
+                stage("trim", ItemProcessor.Kind.CPU),
+                stage("upper", ItemProcessor.Kind.CPU),
+                new MarkProcessedProcessor());
+
+        assertEquals(List.of(List.of("fetch"), List.of("trim", "upper", "mark-processed")), pipeline.describe());
+
+        Item result = pipeline.apply(item()).get(2, TimeUnit.SECONDS);
+
+        assertEquals("PROCESSED", result.getStatus());
+        assertEquals("Desc+fetch+trim+upper", result.getDescription());
+        assertFalse(threads.get("fetch") instanceof ForkJoinWorkerThread);
+        assertInstanceOf(ForkJoinWorkerThread.class, threads.get("trim"));
+        assertSame(threads.get("trim"), threads.get("upper"));
+        assertEquals(1, meterRegistry.get("items.processing.stage").tag("stage", "upper").timer().count());
+    }
+
+    /**
+     * A stage returning null drops the item and the remaining stages don't run
+     */
+    @Test
+    void testNullDropsItem() throws Exception {
+        ItemPipeline pipeline = pipeline(item -> null, new MarkProcessedProcessor());
+
+        assertNull(pipeline.apply(item()).get(2, TimeUnit.SECONDS));
+        assertEquals(0, meterRegistry.get("items.processing.stage").tag("stage", "mark-processed").timer().count());
+    }
+
+    /**
+     * A failing stage completes the future exceptionally with its cause
+     */
+    @Test
+    void testFailingStage() {
+        ItemPipeline pipeline = pipeline(item -> {
+            throw new IOException("enrichment service down");
+        }, new MarkProcessedProcessor());
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> pipeline.apply(item()).get(2, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, ex.getCause());
+    }
+
+    private ItemPipeline pipeline(ItemProcessor... processors) {
+        return new ItemPipeline(List.of(processors), cpuPool, ioExecutor, meterRegistry);
+    }
+
+    private ItemProcessor stage(String name, ItemProcessor.Kind kind) {
+        return new ItemProcessor() {
+            @Override
+            public Item process(Item item) {
+                threads.put(name, Thread.currentThread());
+                item.setDescription(item.getDescription() + "+" + name);
+                return item;
+            }
+
+            @Override
+            public Kind kind() {
+                return kind;
+            }
+
+            @Override
+            public String name() {
+                return name;
+            }
+        };
+    }
+
+    private static Item item() {
+        return new Item(1L, "Item1", "Desc", "NEW", "item1@example.com");
+    }
+}
@@ -0,0 +1,92 @@
+package com.siemens.internship;
+
+import com.siemens.internship.index.ItemSearchIndex;
+import com.siemens.internship.index.ItemSearchIndex.Entry;
+import com.siemens.internship.model.ItemSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ItemSearchIndexTest {
+
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new ItemSearchIndex();
+        index.putAll(List.of(
+                new Entry(1L, "Apple", "NEW", "example.com", 0L),
+                new Entry(2L, "Apricot", "PROCESSED", "example.com", 0L),
+                new Entry(3L, "Banana", "NEW", "other.org", 0L),
+                new Entry(4L, "Application", "NEW", "example.com", 0L),
+                new Entry(5L, "Avocado", "NEW", "example.com", 0L)));
+    }
+
+    /**
+     * We test every single filter and their combination, in id order
+     */
+    @Test
+    void testFilters() {
+        assertEquals(List.of(1L, 3L, 4L, 5L), index.findIds(criteria("NEW", null, null), null, 10));
+        assertEquals(List.of(1L, 2L, 4L, 5L), index.findIds(criteria(null, "example.com", null), null, 10));
+        assertEquals(List.of(1L, 4L), index.findIds(criteria(null, null, "App"), null, 10));
+        assertEquals(List.of(1L, 2L, 4L, 5L), index.findIds(criteria(null, null, "A"), null, 10));
+        assertEquals(List.of(4L, 5L), index.findIds(criteria("NEW", "example.com", "A"), 1L, 10));
+        assertEquals(List.of(), index.findIds(criteria(null, null, "Cherry"), null, 10));
+        assertEquals(List.of(), index.findIds(criteria("UNKNOWN", null, null), null, 10));
+    }
+
+    /**
+     * We test that the cursor and the limit cut the result like a keyset page
+     */
+    @Test
+    void testKeysetPages() {
+        ItemSearchCriteria startsWithA = criteria(null, null, "A");
+        assertEquals(List.of(1L, 2L), index.findIds(startsWithA, null, 2));
+        assertEquals(List.of(4L, 5L), index.findIds(startsWithA, 2L, 2));
+        assertEquals(List.of(), index.findIds(startsWithA, 5L, 2));
+    }
+
+    /**
+     * We test that updates move an item between keys, an older version never overwrites a newer one,
+     * and removed items disappear from every key
+     */
+    @Test
+    void testUpdatesAndRemovals() {
+        index.putAll(List.of(new Entry(1L, "Cherry", "PROCESSED", "other.org", 2L)));
+        index.putAll(List.of(new Entry(1L, "Apple", "NEW", "example.com", 1L)));
+
+        assertEquals(List.of(3L, 4L, 5L), index.findIds(criteria("NEW", null, null), null, 10));
+        assertEquals(List.of(1L), index.findIds(criteria(null, null, "Ch"), null, 10));
+        assertEquals(List.of(1L, 3L), index.findIds(criteria(null, "other.org", null), null, 10));
+
+        index.removeAll(List.of(1L, 4L));
+        assertEquals(List.of(), index.findIds(criteria(null, null, "Ch"), null, 10));
+        assertEquals(List.of(2L, 5L), index.findIds(criteria(null, null, "A"), null, 10));
+        assertEquals(3, index.size());
+    }
+
+    /**
+     * We test that a prefix spanning many trie nodes is merged back into id order from the cursor
+     */
+    @Test
+    void testPrefixMergeAcrossNames() {
+        List<Entry> entries = new ArrayList<>();
+        for (long id = 100; id < 200; id++) {
+            entries.add(new Entry(id, "Item" + (199 - id), "NEW", "example.com", 0L));
+        }
+        index.putAll(entries);
+
+        assertEquals(List.of(150L, 151L, 152L), index.findIds(criteria(null, null, "Item"), 149L, 3));
+        // "Item1" ends at one node (id 198) above the ten "Item1x" names (ids 180-189)
+        assertEquals(List.of(186L, 187L, 188L, 189L, 198L), index.findIds(criteria(null, null, "Item1"), 185L, 10));
+    }
+
+    private static ItemSearchCriteria criteria(String status, String domain, String namePrefix) {
+        return new ItemSearchCriteria(status, domain, namePrefix);
+    }
+}
@@ -0,0 +1,82 @@
+package com.siemens.internship;
+
+import com.siemens.internship.index.ItemSearchIndex;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemSearchCriteria;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.ItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Search against the real database: the indexed query and the in-process index must agree,
+ * and the index must follow writes made through ItemService.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:search-test",
+        "items.search.index.enabled=true"})
+public class ItemSearchTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemSearchIndex searchIndex;
+
+    @Test
+    void testIndexAndQueryAgreeAndFollowWrites() {
+        List<Item> seed = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            seed.add(new Item(null, (i % 2 == 0 ? "Alpha" : "Beta") + i, "Desc", i % 3 == 0 ? "PROCESSED" : "NEW",
+                    "user" + i + (i % 5 == 0 ? "@Example.com" : "@other.org")));
+        }
+        itemService.createAll(seed);
+        assertTrue(searchIndex.isReady());
+
+        List<ItemSearchCriteria> searches = List.of(
+                new ItemSearchCriteria("NEW", null, null),
+                new ItemSearchCriteria(null, "example.com", null),
+                new ItemSearchCriteria(null, null, "Alpha1"),
+                new ItemSearchCriteria("NEW", "other.org", "Beta"),
+                new ItemSearchCriteria(null, null, "100%"));
+        for (ItemSearchCriteria criteria : searches) {
+            assertSameIds(itemRepository.search(criteria, null, 1000), itemService.search(criteria, null, 1000));
+        }
+
+        // keyset pages through the index cover the same items as one big page
+        ItemSearchCriteria pending = new ItemSearchCriteria("NEW", null, null);
+        List<Item> paged = new ArrayList<>();
+        List<Item> page = itemService.search(pending, null, 7);
+        while (!page.isEmpty()) {
+            paged.addAll(page);
+            page = itemService.search(pending, page.get(page.size() - 1).getId(), 7);
+        }
+        assertSameIds(itemRepository.search(pending, null, 1000), paged);
+
+        Item renamed = seed.get(1);
+        renamed.setName("Gamma");
+        renamed.setEmail("gamma@example.com");
+        itemService.updateItem(renamed.getId(), renamed);
+        itemService.deleteById(seed.get(2).getId());
+
+        List<Item> gamma = itemService.search(new ItemSearchCriteria(null, "example.com", "Gam"), null, 10);
+        assertEquals(1, gamma.size());
+        assertEquals(renamed.getId(), gamma.get(0).getId());
+        assertTrue(itemService.search(new ItemSearchCriteria(null, null, "Alpha"), null, 1000).stream()
+                .noneMatch(item -> item.getId().equals(seed.get(2).getId())));
+    }
+
+    private static void assertSameIds(List<Item> expected, List<Item> actual) {
+        assertEquals(expected.stream().map(Item::getId).toList(), actual.stream().map(Item::getId).toList());
+    }
+}
@@ -0,0 +1,164 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemSearchCriteria;
+import com.siemens.internship.service.ItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exact number of SQL statements (round trips; a JDBC batch counts once) of each ItemService operation,
+ * so an N+1 query or an extra select before a write shows up as a failing test.
+ * Sequence increments are not counted, see SqlStatementRecorder, except that change feed entries must take none.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:statement-count-test")
+@Import(SqlStatementRecorder.class)
+public class ItemServiceStatementCountTest {
+
+    private static final int ITEMS = 10;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private SqlStatementRecorder recorder;
+
+    @Test
+    void testReads() {
+        Item item = seed(1).get(0);
+
+        assertStatements(Map.of("select", 1L), () -> itemService.findVersion(item.getId()));
+        assertStatements(Map.of("select", 1L), () -> itemService.findById(item.getId()));
+        // served by the item cache from now on
+        assertStatements(Map.of(), () -> itemService.findById(item.getId()));
+        assertStatements(Map.of(), () -> itemService.findVersion(item.getId()));
+        assertStatements(Map.of("select", 1L), () -> itemService.findPage(null, 100));
+        assertStatements(Map.of("select", 1L),
+                () -> itemService.search(new ItemSearchCriteria("NEW", null, null), null, 100));
+        // in-memory counters
+        assertStatements(Map.of(), () -> itemService.stats());
+    }
+
+    @Test
+    void testSingleItemWrites() {
+        assertStatements(Map.of("insert", 2L),
+                () -> itemService.save(new Item(null, "Created", "Desc", "NEW", "created@example.com")));
+
+        Item item = seed(1).get(0);
+        Item changes = new Item(null, "Renamed", "Desc", "NEW", "renamed@example.com");
+        // the update returns the replaced values (H2: SELECT ... FROM OLD TABLE (UPDATE ...)), no prior select
+        List<String> update = assertStatements(Map.of("select", 1L, "insert", 1L),
+                () -> itemService.updateItem(item.getId(), changes));
+        assertTrue(update.get(0).contains("old table (update item"), update.get(0));
+
+        Item updated = itemService.findByIdOrThrow(item.getId());
+        updated.setDescription("Saved again");
+        assertStatements(Map.of("select", 1L, "update", 1L, "insert", 1L), () -> itemService.save(updated));
+
+        assertStatements(Map.of("select", 1L, "delete", 1L, "insert", 1L),
+                () -> itemService.deleteById(item.getId()));
+    }
+
+    @Test
+    void testBulkWritesDontGrowWithTheItemCount() {
+        List<Item> fresh = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            fresh.add(new Item(null, "Bulk" + i, "Desc", "NEW", "bulk" + i + "@example.com"));
+        }
+        // one batch for the items, one for their change feed entries
+        assertStatements(Map.of("insert", 2L), () -> itemService.createAll(fresh));
+
+        List<Item> changes = fresh.stream()
+                .map(item -> new Item(item.getId(), item.getName() + "!", "Desc", "NEW", item.getEmail()))
+                .toList();
+        assertStatements(Map.of("select", 1L, "update", 1L, "insert", 1L), () -> itemService.updateAll(changes));
+
+        assertStatements(Map.of("select", 2L, "delete", 1L, "insert", 1L),
+                () -> itemService.deleteAllById(fresh.stream().map(Item::getId).toList()));
+    }
+
+    @Test
+    void testProcessingWrites() {
+        List<Item> pending = seed(ITEMS);
+        List<Item> transformed = pending.stream()
+                .map(item -> {
+                    Item copy = item.copy(); // keeps the version the write is checked against
+                    copy.setStatus("PROCESSED");
+                    return copy;
+                })
+                .toList();
+        // lock the pending rows, one batch of updates, one batch of change feed entries
+        assertStatements(Map.of("select", 1L, "update", 1L, "insert", 1L),
+                () -> itemService.writeProcessed(transformed));
+
+        seed(ITEMS);
+        // pending items, lock, one batch of updates, one batch of change feed entries; a short page ends the walk
+        assertStatements(Map.of("select", 2L, "update", 1L, "insert", 1L),
+                () -> itemService.processItemsInChunks());
+    }
+
+    @Test
+    void testBulkChunkAppendsTheChangeFeedInOneBatch() {
+        // one Hibernate batch (hibernate.jdbc.batch_size) of items; the feed entries must add one statement, not 50
+        int chunk = 50;
+        List<Item> fresh = new ArrayList<>();
+        for (int i = 0; i < chunk; i++) {
+            fresh.add(new Item(null, "Chunk" + i, "Desc", "NEW", "chunk" + i + "@example.com"));
+        }
+        assertStatements(Map.of("insert", 2L), () -> itemService.createAll(fresh));
+        assertNoChangeSeqIncrements();
+
+        // one chunk covers every pending row, including ones other tests left behind, so only the feed is counted
+        recorder.start();
+        itemService.processItemsInChunks(10_000);
+        List<String> feedInserts = recorder.stop().stream()
+                .filter(sql -> sql.startsWith("insert into item_change"))
+                .toList();
+        assertEquals(1, feedInserts.size(), () -> String.join("\n", feedInserts));
+        assertNoChangeSeqIncrements();
+    }
+
+    private void assertNoChangeSeqIncrements() {
+        List<String> changeSeqs = recorder.sequenceIncrements().stream()
+                .filter(sql -> sql.contains("item_change_seq"))
+                .toList();
+        assertEquals(List.of(), changeSeqs);
+    }
+
+    private List<Item> seed(int count) {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(new Item(null, "Item" + i, "Desc", "NEW", "item" + i + "@example.com"));
+        }
+        return itemService.createAll(items);
+    }
+
+    /**
+     * Run the operation and compare the statements it sent, counted by their first keyword.
+     *
+     * @return the statements, for further checks
+     */
+    private List<String> assertStatements(Map<String, Long> expected, Runnable operation) {
+        List<String> statements;
+        recorder.start();
+        try {
+            operation.run();
+        } finally {
+            statements = recorder.stop();
+        }
+        Map<String, Long> counts = statements.stream()
+                .collect(Collectors.groupingBy(sql -> sql.split("\\s+", 2)[0], Collectors.counting()));
+        assertEquals(expected, counts, () -> String.join("\n", statements));
+        return statements;
+    }
+}
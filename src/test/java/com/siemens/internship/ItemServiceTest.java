@@ -1,19 +1,57 @@
 package com.siemens.internship;
 
+import com.siemens.internship.cache.ItemCache;
+import com.siemens.internship.index.ItemSearchIndex;
+import com.siemens.internship.model.DeadLetterItem;
 import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChange;
+import com.siemens.internship.model.ItemGroupCount;
+import com.siemens.internship.model.ItemSearchCriteria;
+import com.siemens.internship.model.ProcessingState;
+import com.siemens.internship.processing.ItemPipeline;
+import com.siemens.internship.processing.ItemProcessor;
+import com.siemens.internship.processing.MarkProcessedProcessor;
+import com.siemens.internship.repository.DeadLetterItemRepository;
 import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.repository.ItemUpdateRepository;
+import com.siemens.internship.service.BulkProcessingResult;
+import com.siemens.internship.service.DeadLetterReplayResult;
+import com.siemens.internship.service.ItemChangeLog;
+import com.siemens.internship.service.ItemProcessingMetrics;
 import com.siemens.internship.service.ItemService;
+import com.siemens.internship.service.ItemStatsCounters;
+import com.siemens.internship.service.RetryPolicy;
+import com.siemens.internship.service.ProcessingJob;
+import com.siemens.internship.utils.BadRequestException;
 import com.siemens.internship.utils.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,14 +62,55 @@ public class ItemServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private DeadLetterItemRepository deadLetterRepository;
+
+    @Mock
+    private ItemChangeLog changeLog;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ItemSearchIndex searchIndex;
+
+    @Mock
+    private ItemStatsCounters statsCounters;
+
+    @Spy
+    private ItemCache itemCache = new ItemCache(100, Duration.ofMinutes(5));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ItemProcessingMetrics metrics = new ItemProcessingMetrics(meterRegistry);
+
     @InjectMocks
     private ItemService itemService;
 
     private Item item;
 
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private final ForkJoinPool cpuPool = new ForkJoinPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        cpuPool.shutdownNow();
+    }
+
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
+        // run transaction callbacks inline
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        ReflectionTestUtils.setField(itemService, "executor", executor);
+        ReflectionTestUtils.setField(itemService, "retryPolicy",
+                new RetryPolicy(3, Duration.ofMillis(1), 2.0, Duration.ofMillis(5)));
+        ReflectionTestUtils.setField(itemService, "pipeline",
+                new ItemPipeline(List.of(new MarkProcessedProcessor()), cpuPool, executor, meterRegistry));
         item = new Item(1L, "Item1", "Desc", "NEW", "test@example.com");
     }
 
@@ -67,30 +146,80 @@ public class ItemServiceTest {
     }
 
     /**
-     * We test if save() delegates to repository.save()
+     * We test if save() delegates to repository.save(), creating a new item under a fresh id
      */
     @Test
     void testSave() {
-        when(itemRepository.save(item)).thenReturn(item);
+        Item saved = new Item(2L, "Item1", "Desc", "NEW", "test@example.com");
+        when(itemRepository.save(item)).thenReturn(saved);
         Item result = itemService.save(item);
-        assertSame(item, result);
+        assertSame(saved, result);
+        // the client-sent id of a new item is dropped
+        assertNull(item.getId());
         verify(itemRepository).save(item);
+        verify(changeLog).record(ItemChange.Type.CREATED, saved);
+    }
+
+    /**
+     * Test that deleteById() removes the row and records the deletion in the change feed
+     */
+    @Test
+    void testDeleteById() {
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        itemService.deleteById(1L);
+        verify(itemRepository).delete(item);
+        verify(changeLog).recordDeleted(List.of(1L));
+        verify(statsCounters).record(List.of(ItemGroupCount.of(item)), List.of());
     }
 
     /**
-     * Test that updateItem() applies fields and saves
+     * Test that updateItem() writes the fields with one statement, without loading the item,
+     * and returns it with the next version
      */
     @Test
     void testUpdate() {
         Item updatedInfo = new Item(null, "asdasd", "qweqwe", "PROCESSED", "updated@example.com");
-        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
-        when(itemRepository.save(any(Item.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(itemRepository.updateFields(eq(1L), same(updatedInfo), any(Instant.class)))
+                .thenReturn(Optional.of(new ItemUpdateRepository.Previous("NEW", "example.com", 2L)));
 
         Item result = itemService.updateItem(1L, updatedInfo);
+        assertEquals(1L, result.getId());
         assertEquals("asdasd", result.getName());
         assertEquals("qweqwe", result.getDescription());
         assertEquals("PROCESSED", result.getStatus());
+        assertEquals(ProcessingState.PROCESSED, result.getProcessingState());
         assertEquals("updated@example.com", result.getEmail());
+        assertEquals(3L, result.getVersion());
+        assertNotNull(result.getLastModified());
+        verify(itemRepository, never()).findById(anyLong());
+        verify(changeLog).record(ItemChange.Type.UPDATED, result);
+    }
+
+    /**
+     * Test that updateItem() moves the statistics from the old status and domain to the new ones
+     */
+    @Test
+    void testUpdateRecordsStatsDelta() {
+        Item updatedInfo = new Item(null, "Name", "Desc", "PROCESSED", "someone@new.org");
+        when(itemRepository.updateFields(eq(1L), same(updatedInfo), any(Instant.class)))
+                .thenReturn(Optional.of(new ItemUpdateRepository.Previous("NEW", "old.org", null)));
+
+        assertEquals(1L, itemService.updateItem(1L, updatedInfo).getVersion());
+        verify(statsCounters).record(
+                List.of(new ItemGroupCount("NEW", "old.org", 1)),
+                List.of(new ItemGroupCount("PROCESSED", "new.org", 1)));
+    }
+
+    /**
+     * Test that updateItem() throws ResourceNotFoundException when the UPDATE matched no row
+     */
+    @Test
+    void testUpdateNotFound() {
+        Item updatedInfo = new Item(null, "Name", "Desc", "NEW", "someone@new.org");
+        when(itemRepository.updateFields(eq(1L), same(updatedInfo), any(Instant.class))).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> itemService.updateItem(1L, updatedInfo));
+        verify(changeLog, never()).record(any(), any());
     }
 
     /**
@@ -98,8 +227,9 @@ public class ItemServiceTest {
      */
     @Test
     void testDeleteByIdNotFound() {
-        when(itemRepository.existsById(1L)).thenReturn(false);
+        when(itemRepository.findById(1L)).thenReturn(Optional.empty());
         assertThrows(ResourceNotFoundException.class, () -> itemService.deleteById(1L));
+        verify(itemRepository, never()).delete(any(Item.class));
     }
 
     /**
@@ -109,7 +239,7 @@ public class ItemServiceTest {
     void testProcessItemsAsync() throws Exception {
         // we have two IDs, only the first resolves to an existing Item
         List<Long> ids = List.of(1L, 2L);
-        when(itemRepository.findAllIds()).thenReturn(ids);
+        when(itemRepository.findPendingIds()).thenReturn(ids);
 
         Item item1 = new Item(1L, "Name1L", "Desc1L", "NEW", "onel@test.com");
         when(itemRepository.findById(1L)).thenReturn(Optional.of(item1));
@@ -130,5 +260,397 @@ public class ItemServiceTest {
 
         // verify that save(...) was indeed called once
         verify(itemRepository, times(1)).save(any(Item.class));
+
+        // both outcomes are counted and each item was timed
+        assertEquals(1, meterRegistry.get("items.processing.outcome").tag("outcome", "processed").counter().count());
+        assertEquals(1, meterRegistry.get("items.processing.outcome").tag("outcome", "not_found").counter().count());
+        assertEquals(2, meterRegistry.get("items.processing.item").timer().count());
+    }
+
+    /**
+     * Bulk mode walks the pending items in keyset chunks, runs them through the pipeline and writes
+     * each chunk in one call; rows another worker holds are skipped.
+     */
+    @Test
+    void testProcessItemsInChunks() {
+        when(itemRepository.findPendingInRange(Long.MIN_VALUE, Long.MAX_VALUE, PageRequest.of(0, 2)))
+                .thenReturn(List.of(pending(1L), pending(2L)));
+        when(itemRepository.findPendingInRange(2L, Long.MAX_VALUE, PageRequest.of(0, 2))).thenReturn(List.of(pending(5L)));
+        // item 2 is locked by another worker
+        when(itemRepository.lockPending(any())).thenAnswer(inv -> inv.<List<Long>>getArgument(0).stream()
+                .filter(id -> id != 2L).map(ItemServiceTest::pending).toList());
+
+        BulkProcessingResult result = itemService.processItemsInChunks(2);
+
+        assertEquals(3, result.scanned());
+        assertEquals(2, result.updated());
+        assertEquals(1, result.skipped());
+        assertEquals(2, result.chunks());
+        // the short second page ends the walk without an extra query
+        verify(itemRepository, never()).findPendingInRange(eq(5L), any(), any());
+        verify(itemRepository, never()).findById(any());
+        // each written item goes to the change feed as transformed by the pipeline
+        verify(changeLog).recordAll(eq(ItemChange.Type.PROCESSED), argThat(written -> {
+            Item only = written.iterator().next();
+            return only.getId() == 5L && "PROCESSED".equals(only.getStatus());
+        }));
+    }
+
+    /**
+     * Bulk mode applies every ItemProcessor, like the other modes; an item a stage fails stays pending.
+     */
+    @Test
+    void testProcessItemsInChunksRunsThePipeline() {
+        ItemProcessor rename = current -> {
+            if (current.getId() == 2L) {
+                throw new IllegalStateException("enrichment failed");
+            }
+            current.setName(current.getName().toUpperCase());
+            return current;
+        };
+        ReflectionTestUtils.setField(itemService, "pipeline",
+                new ItemPipeline(List.of(rename, new MarkProcessedProcessor()), cpuPool, executor, meterRegistry));
+        Item managed = pending(1L);
+        when(itemRepository.findPendingInRange(Long.MIN_VALUE, Long.MAX_VALUE, PageRequest.of(0, 10)))
+                .thenReturn(List.of(pending(1L), pending(2L)));
+        when(itemRepository.lockPending(List.of(1L))).thenReturn(List.of(managed));
+
+        BulkProcessingResult result = itemService.processItemsInChunks(10);
+
+        assertEquals(1, result.updated());
+        assertEquals("ITEM1", managed.getName());
+        assertEquals("PROCESSED", managed.getStatus());
+        assertEquals(1, meterRegistry.get("items.processing.outcome").tag("outcome", "failed").counter().count());
+    }
+
+    /**
+     * Bulk mode rejects a non-positive chunk size.
+     */
+    @Test
+    void testProcessItemsInChunksInvalidSize() {
+        assertThrows(BadRequestException.class, () -> itemService.processItemsInChunks(0));
+    }
+
+    /**
+     * A job keeps going past a failing chunk, counting its items as failed.
+     */
+    @Test
+    void testRunProcessingJobCountsFailedChunk() {
+        ReflectionTestUtils.setField(itemService, "chunkSize", 2);
+        when(itemRepository.countPending()).thenReturn(3L);
+        when(itemRepository.findPendingInRange(Long.MIN_VALUE, Long.MAX_VALUE, PageRequest.of(0, 2)))
+                .thenReturn(List.of(pending(1L), pending(2L)));
+        when(itemRepository.findPendingInRange(2L, Long.MAX_VALUE, PageRequest.of(0, 2))).thenReturn(List.of(pending(3L)));
+        when(itemRepository.lockPending(any())).thenAnswer(inv -> {
+            List<Long> ids = inv.getArgument(0);
+            if (ids.contains(1L)) {
+                throw new RuntimeException("db down");
+            }
+            return ids.stream().map(ItemServiceTest::pending).toList();
+        });
+
+        ProcessingJob job = new ProcessingJob("job");
+        itemService.runProcessingJob(job);
+
+        assertEquals(ProcessingJob.State.COMPLETED, job.getState());
+        assertEquals(1, job.getProcessed());
+        assertEquals(2, job.getFailed());
+        assertEquals(3, job.snapshot().total());
+    }
+
+    /**
+     * A job hit by an Error still ends as FAILED, so it doesn't block later jobs, and the Error propagates.
+     */
+    @Test
+    void testRunProcessingJobFailsOnError() {
+        when(itemRepository.countPending()).thenReturn(1L);
+        when(itemRepository.findPendingInRange(any(), any(), any())).thenThrow(new StackOverflowError());
+
+        ProcessingJob job = new ProcessingJob("job");
+        assertThrows(StackOverflowError.class, () -> itemService.runProcessingJob(job));
+
+        assertEquals(ProcessingJob.State.FAILED, job.getState());
+        assertTrue(job.isFinished());
+        assertEquals(ProcessingJob.PROCESSING_FAILED, job.snapshot().error());
+    }
+
+    /**
+     * A job cancelled while queued never touches the repository.
+     */
+    @Test
+    void testRunProcessingJobCancelledBeforeStart() {
+        ProcessingJob job = new ProcessingJob("job");
+        job.cancel();
+        itemService.runProcessingJob(job);
+
+        assertEquals(ProcessingJob.State.CANCELLED, job.getState());
+        verify(itemRepository, never()).findPendingInRange(any(), any(), any());
+    }
+
+    /**
+     * findPage() starts from the beginning for a null cursor and rejects oversized pages.
+     */
+    @Test
+    void testFindPage() {
+        when(itemRepository.findPageAfter(Long.MIN_VALUE, PageRequest.of(0, 10))).thenReturn(List.of(item));
+        assertEquals(List.of(item), itemService.findPage(null, 10));
+        assertThrows(BadRequestException.class, () -> itemService.findPage(null, 1_000_000));
+    }
+
+    /**
+     * search() uses the indexed query until the in-process index is ready.
+     */
+    @Test
+    void testSearchWithoutIndex() {
+        ItemSearchCriteria criteria = new ItemSearchCriteria("NEW", null, null);
+        when(itemRepository.search(criteria, 5L, 10)).thenReturn(List.of(item));
+
+        assertEquals(List.of(item), itemService.search(criteria, 5L, 10));
+        verify(searchIndex, never()).findIds(any(), any(), anyInt());
+        assertThrows(BadRequestException.class, () -> itemService.search(criteria, null, 0));
+    }
+
+    /**
+     * search() loads the ids the index picks, drops rows that no longer match, and asks the index
+     * again after the last candidate until the page is full.
+     */
+    @Test
+    void testSearchWithIndexSkipsStaleEntries() {
+        ItemSearchCriteria criteria = new ItemSearchCriteria(null, "example.com", null);
+        Item one = new Item(1L, "One", "Desc", "NEW", "one@example.com");
+        Item moved = new Item(2L, "Two", "Desc", "NEW", "two@other.org");
+        Item three = new Item(3L, "Three", "Desc", "NEW", "three@example.com");
+        when(searchIndex.canAnswer(criteria)).thenReturn(true);
+        when(searchIndex.findIds(criteria, null, 2)).thenReturn(List.of(1L, 2L));
+        when(searchIndex.findIds(criteria, 2L, 1)).thenReturn(List.of(3L));
+        when(itemRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(one, moved));
+        when(itemRepository.findAllById(List.of(3L))).thenReturn(List.of(three));
+
+        assertEquals(List.of(one, three), itemService.search(criteria, null, 2));
+        verify(itemRepository, never()).search(any(), any(), anyInt());
+    }
+
+    /**
+     * updateAll() loads the targets in one query and only updates the ones that exist.
+     */
+    @Test
+    void testUpdateAll() {
+        Item change = new Item(1L, "New name", "New desc", "NEW", "new@example.com");
+        Item missing = new Item(7L, "Other", "Desc", "NEW", "other@example.com");
+        when(itemRepository.findAllById(List.of(1L, 7L))).thenReturn(List.of(item));
+
+        Map<Long, Item> updated = itemService.updateAll(List.of(change, missing));
+
+        assertEquals(Set.of(1L), updated.keySet());
+        assertEquals("New name", item.getName());
+        verify(itemRepository, never()).save(any());
+    }
+
+    /**
+     * deleteAllById() removes only existing ids with one batched delete.
+     */
+    @Test
+    void testDeleteAllById() {
+        when(itemRepository.findExistingIds(List.of(1L, 2L))).thenReturn(List.of(1L));
+
+        assertEquals(Set.of(1L), itemService.deleteAllById(List.of(1L, 2L)));
+        verify(itemRepository).deleteAllByIdInBatch(Set.of(1L));
+    }
+
+    /**
+     * The second lookup is a cache hit that returns a copy, and a write invalidates the entry.
+     */
+    @Test
+    void testFindByIdUsesCache() {
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(itemRepository.save(item)).thenReturn(item);
+
+        itemService.findByIdOrThrow(1L);
+        Item cached = itemService.findByIdOrThrow(1L);
+        assertNotSame(item, cached);
+        assertEquals(item.getName(), cached.getName());
+        verify(itemRepository, times(1)).findById(1L);
+
+        // mutating the returned copy doesn't leak into the cache
+        cached.setStatus("PROCESSED");
+        assertEquals("NEW", itemService.findByIdOrThrow(1L).getStatus());
+
+        // an update (versioned item) evicts the cached copy
+        item.setVersion(0L);
+        itemService.save(item);
+        itemService.findByIdOrThrow(1L);
+        verify(itemRepository, times(3)).findById(1L);
+        assertEquals(2, itemCache.stats().hits());
+    }
+
+    /**
+     * findVersion() answers from the cache when it can and otherwise runs the version-only query.
+     */
+    @Test
+    void testFindVersion() {
+        when(itemRepository.findVersionById(1L)).thenReturn(Optional.of(2L));
+        assertEquals(Optional.of(2L), itemService.findVersion(1L));
+        verify(itemRepository, never()).findById(any());
+
+        item.setVersion(3L);
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        itemService.findByIdOrThrow(1L);
+        assertEquals(Optional.of(3L), itemService.findVersion(1L));
+        verify(itemRepository, times(1)).findVersionById(1L);
+    }
+
+    /**
+     * writeProcessed copies the transformed fields onto the rows it could lock and leaves the rest out.
+     */
+    @Test
+    void testWriteProcessed() {
+        Item transformed1 = new Item(1L, "Item1", "Desc", "PROCESSED", "item1@example.com");
+        Item transformed2 = new Item(2L, "Item2", "Desc", "PROCESSED", "item2@example.com");
+        Item managed1 = new Item(1L, "Item1", "Desc", "NEW", "ITEM1@example.com");
+        // item 2 is locked by another worker
+        when(itemRepository.lockPending(any())).thenReturn(List.of(managed1));
+
+        List<Item> written = itemService.writeProcessed(List.of(transformed1, transformed2));
+
+        assertEquals(List.of(managed1), written);
+        assertEquals("PROCESSED", managed1.getStatus());
+        assertEquals(ProcessingState.PROCESSED, managed1.getProcessingState());
+        assertEquals("item1@example.com", managed1.getEmail());
+        verify(itemCache).evictAll(Set.of(1L, 2L));
+    }
+
+    /**
+     * A transient DB error is retried and the item still gets processed.
+     */
+    @Test
+    void testProcessItemsAsyncRetriesTransientFailure() throws Exception {
+        when(itemRepository.findPendingIds()).thenReturn(List.of(1L));
+        when(itemRepository.findById(1L))
+                .thenThrow(new QueryTimeoutException("statement timeout"))
+                .thenReturn(Optional.of(item));
+        when(itemRepository.save(any(Item.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        List<Item> processed = itemService.processItemsAsync().get(2, TimeUnit.SECONDS);
+
+        assertEquals(1, processed.size());
+        assertEquals(1, meterRegistry.get("items.processing.retries").counter().count());
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    /**
+     * A permanent failure is not retried and ends up in the dead-letter table with its cause.
+     */
+    @Test
+    void testProcessItemsAsyncDeadLettersPermanentFailure() throws Exception {
+        when(itemRepository.findPendingIds()).thenReturn(List.of(1L));
+        when(itemRepository.findById(1L)).thenThrow(new IllegalStateException("corrupt row"));
+        when(deadLetterRepository.findByItemId(1L)).thenReturn(Optional.empty());
+
+        List<Item> processed = itemService.processItemsAsync().get(2, TimeUnit.SECONDS);
+
+        assertTrue(processed.isEmpty());
+        verify(itemRepository, times(1)).findById(1L);
+        ArgumentCaptor<DeadLetterItem> letter = ArgumentCaptor.forClass(DeadLetterItem.class);
+        verify(deadLetterRepository).save(letter.capture());
+        assertEquals(1L, letter.getValue().getItemId());
+        assertEquals(1, letter.getValue().getAttempts());
+        assertEquals(IllegalStateException.class.getName(), letter.getValue().getErrorType());
+        assertEquals("corrupt row", letter.getValue().getErrorMessage());
+    }
+
+    /**
+     * A stuck item times out instead of holding up the whole run, is retried, then dead-lettered.
+     */
+    @Test
+    void testProcessItemsAsyncTimesOutStuckItem() throws Exception {
+        ReflectionTestUtils.setField(itemService, "itemTimeout", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(itemService, "retryPolicy",
+                new RetryPolicy(2, Duration.ofMillis(1), 2.0, Duration.ofMillis(5)));
+        when(itemRepository.findPendingIds()).thenReturn(List.of(1L));
+        when(itemRepository.findById(1L)).thenAnswer(inv -> {
+            Thread.sleep(300);
+            return Optional.of(item);
+        });
+        when(deadLetterRepository.findByItemId(1L)).thenReturn(Optional.empty());
+
+        List<Item> processed = itemService.processItemsAsync().get(2, TimeUnit.SECONDS);
+
+        assertTrue(processed.isEmpty());
+        ArgumentCaptor<DeadLetterItem> letter = ArgumentCaptor.forClass(DeadLetterItem.class);
+        verify(deadLetterRepository).save(letter.capture());
+        assertEquals(2, letter.getValue().getAttempts());
+        assertEquals(TimeoutException.class.getName(), letter.getValue().getErrorType());
+    }
+
+    /**
+     * A timed out attempt that finishes late must not write the item it was dead-lettered for.
+     */
+    @Test
+    void testProcessItemsAsyncDropsLateResultOfTimedOutAttempt() throws Exception {
+        ReflectionTestUtils.setField(itemService, "itemTimeout", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(itemService, "retryPolicy",
+                new RetryPolicy(1, Duration.ofMillis(1), 2.0, Duration.ofMillis(5)));
+        when(itemRepository.findPendingIds()).thenReturn(List.of(1L));
+        when(itemRepository.findById(1L)).thenAnswer(inv -> {
+            Thread.sleep(200);
+            return Optional.of(item);
+        });
+        when(deadLetterRepository.findByItemId(1L)).thenReturn(Optional.empty());
+
+        assertTrue(itemService.processItemsAsync().get(2, TimeUnit.SECONDS).isEmpty());
+
+        verify(deadLetterRepository).save(any(DeadLetterItem.class));
+        verify(itemRepository, after(500).never()).save(any(Item.class));
+    }
+
+    /**
+     * Only maxInFlightItems items run at once, so no item waits in the executor queue on its time limit.
+     */
+    @Test
+    void testProcessItemsAsyncBoundsItemsInFlight() throws Exception {
+        ReflectionTestUtils.setField(itemService, "maxInFlightItems", 1);
+        ReflectionTestUtils.setField(itemService, "itemTimeout", Duration.ofMillis(150));
+        List<Long> ids = List.of(1L, 2L, 3L, 4L);
+        when(itemRepository.findPendingIds()).thenReturn(ids);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        for (Long id : ids) {
+            when(itemRepository.findById(id)).thenAnswer(inv -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(100);
+                running.decrementAndGet();
+                return Optional.of(pending(id));
+            });
+        }
+        when(itemRepository.save(any(Item.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // 400 ms of work in total, but each item gets its full time limit once it starts
+        List<Item> processed = itemService.processItemsAsync().get(2, TimeUnit.SECONDS);
+
+        assertEquals(4, processed.size());
+        assertEquals(1, maxRunning.get());
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    /**
+     * Replaying removes the dead letters of items that now succeed.
+     */
+    @Test
+    void testReplayDeadLetters() throws Exception {
+        DeadLetterItem letter = new DeadLetterItem(1L);
+        letter.setId(7L);
+        when(deadLetterRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of(letter));
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(itemRepository.save(any(Item.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        DeadLetterReplayResult result = itemService.replayDeadLetters().get(2, TimeUnit.SECONDS);
+
+        assertEquals(new DeadLetterReplayResult(1, 1, 0), result);
+        verify(deadLetterRepository).deleteById(7L);
+        assertEquals("PROCESSED", item.getStatus());
+    }
+
+    private static Item pending(Long id) {
+        return new Item(id, "Item" + id, "Desc", "NEW", "item" + id + "@example.com");
     }
 }
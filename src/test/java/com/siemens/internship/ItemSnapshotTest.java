@@ -0,0 +1,159 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.ItemService;
+import com.siemens.internship.snapshot.ItemSnapshotReader;
+import com.siemens.internship.snapshot.ItemSnapshotService;
+import com.siemens.internship.snapshot.ItemSnapshotWriter;
+import com.siemens.internship.snapshot.SnapshotResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:snapshot-test;DB_CLOSE_DELAY=-1",
+        "items.snapshot.block-rows=7"})
+public class ItemSnapshotTest {
+
+    @TempDir
+    static Path dir;
+
+    @DynamicPropertySource
+    static void snapshotPath(DynamicPropertyRegistry registry) {
+        registry.add("items.snapshot.path", () -> dir.resolve("items.snapshot").toString());
+    }
+
+    @Autowired
+    private ItemSnapshotService snapshotService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * We test that every field, including nulls, non-ASCII text and partial last blocks, survives the file format
+     */
+    @Test
+    void testFormatRoundTrip() throws IOException {
+        Path file = dir.resolve("format.snapshot");
+        List<Item> items = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            Item item = new Item(id, "Item" + id, id % 2 == 0 ? null : "Caf\u00e9 \u2013 " + id, "NEW",
+                    "item" + id + "@example.com");
+            item.setVersion(id % 3 == 0 ? null : id);
+            item.setLastModified(id % 4 == 0 ? null : Instant.parse("2024-05-06T07:08:09.123456Z").plusSeconds(id));
+            items.add(item);
+        }
+        try (ItemSnapshotWriter writer = new ItemSnapshotWriter(file, 4)) {
+            for (Item item : items) {
+                writer.add(item);
+            }
+        }
+
+        List<Item> read = new ArrayList<>();
+        List<Integer> blockSizes = new ArrayList<>();
+        try (ItemSnapshotReader reader = new ItemSnapshotReader(file)) {
+            for (List<Item> block = reader.nextBlock(); block != null; block = reader.nextBlock()) {
+                blockSizes.add(block.size());
+                read.addAll(block);
+            }
+        }
+        assertEquals(List.of(4, 4, 2), blockSizes);
+        assertEquals(items.size(), read.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertSameItem(items.get(i), read.get(i));
+        }
+    }
+
+    /**
+     * We test that a truncated file is rejected instead of loading part of it
+     */
+    @Test
+    void testTruncatedFileIsRejected() throws IOException {
+        Path file = dir.resolve("truncated.snapshot");
+        try (ItemSnapshotWriter writer = new ItemSnapshotWriter(file, 4)) {
+            for (long id = 1; id <= 6; id++) {
+                writer.add(new Item(id, "Item" + id, "Desc", "NEW", "item" + id + "@example.com"));
+            }
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 20));
+
+        try (ItemSnapshotReader reader = new ItemSnapshotReader(file)) {
+            assertThrows(IOException.class, () -> {
+                while (reader.nextBlock() != null) {
+                    // drain
+                }
+            });
+        }
+    }
+
+    /**
+     * We test that export followed by import into an empty table restores every row as it was,
+     * and counted in the statistics, and that new items get ids past the restored ones
+     */
+    @Test
+    void testExportAndLoad() {
+        List<Item> seed = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            seed.add(new Item(null, "Item" + i, "Description", i % 3 == 0 ? "PROCESSED" : "NEW",
+                    "item" + i + "@example.com"));
+        }
+        itemRepository.saveAll(seed);
+        List<Item> before = sorted(itemRepository.findAll());
+
+        SnapshotResult exported = snapshotService.export();
+        assertEquals(20, exported.items());
+        assertTrue(exported.bytes() > 0);
+
+        jdbcTemplate.update("DELETE FROM item");
+        SnapshotResult loaded = snapshotService.load();
+        assertEquals(20, loaded.items());
+        assertEquals(loaded.items(), itemService.stats().total());
+
+        List<Item> after = sorted(itemRepository.findAll());
+        assertEquals(before.size(), after.size());
+        for (int i = 0; i < before.size(); i++) {
+            assertSameItem(before.get(i), after.get(i));
+            assertEquals(before.get(i).getProcessingState(), after.get(i).getProcessingState());
+        }
+
+        Item created = itemRepository.save(new Item(null, "New", "Desc", "NEW", "new@example.com"));
+        assertTrue(created.getId() > after.get(after.size() - 1).getId());
+    }
+
+    private static List<Item> sorted(List<Item> items) {
+        return items.stream().sorted(Comparator.comparing(Item::getId)).toList();
+    }
+
+    private static void assertSameItem(Item expected, Item actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getEmail(), actual.getEmail());
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getLastModified(), actual.getLastModified());
+    }
+}
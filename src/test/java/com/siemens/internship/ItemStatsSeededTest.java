@@ -0,0 +1,42 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.service.ItemService;
+import com.siemens.internship.service.ItemStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Rows seeded by an SQL init script exist before the statistics counters are first read;
+ * the counters must include them and then follow writes from there.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stats-seeded-test",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true",
+        "spring.sql.init.data-locations=classpath:db/stats-seed.sql"})
+@ActiveProfiles("fast")
+public class ItemStatsSeededTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Test
+    void testCountersIncludeSeededRows() {
+        ItemStats seeded = itemService.stats();
+        assertEquals(3, seeded.total());
+        assertEquals(Map.of("NEW", 2L, "PROCESSED", 1L), seeded.byStatus());
+        assertEquals(Map.of("seeded.com", 2L, "seeded.org", 1L), seeded.byEmailDomain());
+
+        itemService.deleteById(3L);
+        itemService.save(new Item(null, "Added", "Desc", "NEW", "added@seeded.org"));
+        ItemStats after = itemService.stats();
+        assertEquals(3, after.total());
+        assertEquals(Map.of("NEW", 3L), after.byStatus());
+    }
+}
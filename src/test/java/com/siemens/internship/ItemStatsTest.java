@@ -0,0 +1,68 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.ItemService;
+import com.siemens.internship.service.ItemStats;
+import com.siemens.internship.service.ItemStatsCounters;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The in-memory statistics must follow writes made through ItemService
+ * and agree with a rebuild from the table.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:stats-test")
+public class ItemStatsTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemStatsCounters statsCounters;
+
+    @Test
+    void testCountersFollowWritesAndMatchRebuild() {
+        ItemStats initial = itemService.stats();
+        assertEquals(itemRepository.count(), initial.total());
+
+        List<Item> seed = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            seed.add(new Item(null, "Item" + i, "Desc", "NEW", "user" + i + (i < 4 ? "@stats.com" : "@stats.org")));
+        }
+        itemService.createAll(seed);
+
+        Item moved = seed.get(0);
+        moved.setEmail("moved@stats.org");
+        moved.setStatus("PROCESSED");
+        itemService.updateItem(moved.getId(), moved);
+        itemService.deleteById(seed.get(1).getId());
+        itemService.deleteAllById(List.of(seed.get(2).getId(), seed.get(9).getId()));
+        itemService.save(new Item(null, "Extra", "Desc", "NEW", "extra@stats.com"));
+
+        ItemStats stats = itemService.stats();
+        // 10 created, 3 deleted, 1 extra; item 0 moved from stats.com to stats.org
+        assertEquals(initial.total() + 8, stats.total());
+        assertEquals(2L, stats.byEmailDomain().get("stats.com"));
+        assertEquals(6L, stats.byEmailDomain().get("stats.org"));
+
+        statsCounters.rebuild();
+        assertEquals(stats, itemService.stats());
+
+        itemService.processItemsInChunks();
+        ItemStats processed = itemService.stats();
+        assertEquals(Map.of("PROCESSED", processed.total()), processed.byStatus());
+        statsCounters.rebuild();
+        assertEquals(processed, itemService.stats());
+    }
+}
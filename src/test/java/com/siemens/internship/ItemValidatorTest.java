@@ -0,0 +1,66 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.utils.ValidationException;
+import com.siemens.internship.validation.FieldErrors;
+import com.siemens.internship.validation.ItemValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the precompiled ItemValidator against the reflective Bean Validation it replaces.
+ */
+public class ItemValidatorTest {
+
+    private final ItemValidator itemValidator = new ItemValidator();
+
+    private final Validator beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    /**
+     * Invalid fields and messages are the same as Bean Validation reports.
+     */
+    @Test
+    void testSameFieldsAndMessagesAsBeanValidation() {
+        List<Item> items = List.of(
+                new Item(null, "Name", "Desc", "NEW", "test@example.com"),
+                new Item(null, "", "Desc", "NEW", "not-an-email"),
+                new Item(null, "   ", null, null, null),
+                new Item(null, "n".repeat(101), "d".repeat(251), "\t", "a@b.c"),
+                new Item(null, "n".repeat(100), "d".repeat(250), "NEW", "a@bc.de")
+        );
+        FieldErrors errors = new FieldErrors();
+        for (Item item : items) {
+            errors.clear();
+            boolean valid = itemValidator.validate(item, errors);
+
+            Set<ConstraintViolation<Item>> violations = beanValidator.validate(item);
+            Map<String, Set<String>> expected = violations.stream().collect(Collectors.groupingBy(
+                    v -> v.getPropertyPath().toString(),
+                    Collectors.mapping(ConstraintViolation::getMessage, Collectors.toSet())));
+
+            assertEquals(violations.isEmpty(), valid);
+            Map<String, String> actual = errors.toMap();
+            assertEquals(expected.keySet(), actual.keySet());
+            actual.forEach((field, message) -> assertTrue(expected.get(field).contains(message)));
+        }
+    }
+
+    /**
+     * validateOrThrow() carries the field errors in the exception.
+     */
+    @Test
+    void testValidateOrThrow() {
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> itemValidator.validateOrThrow(new Item(null, "", "Desc", "NEW", "test@example.com")));
+        assertEquals(Map.of("name", "Name is required"), ex.getFieldErrors());
+    }
+}
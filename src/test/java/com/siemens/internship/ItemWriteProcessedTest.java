@@ -0,0 +1,49 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ProcessingState;
+import com.siemens.internship.service.ItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * writeProcessed against the real database: an update committed while the item was in the pipeline survives.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:write-processed-test")
+public class ItemWriteProcessedTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Test
+    void testUpdateBetweenReadAndWriteSurvives() {
+        Item stale = itemService.save(new Item(null, "Stale", "Desc", "NEW", "stale@example.com"));
+        Item fresh = itemService.save(new Item(null, "Fresh", "Desc", "NEW", "fresh@example.com"));
+
+        // read by the pipeline, then transformed
+        List<Item> transformed = List.of(stale.copy(), fresh.copy());
+        transformed.forEach(item -> {
+            item.setName(item.getName() + " processed");
+            item.setStatus("PROCESSED");
+        });
+
+        // a PUT commits while the items are in flight
+        itemService.updateItem(stale.getId(), new Item(null, "Renamed", "Updated", "NEW", "renamed@example.com"));
+
+        List<Item> written = itemService.writeProcessed(transformed);
+
+        assertEquals(List.of(fresh.getId()), written.stream().map(Item::getId).toList());
+        Item updated = itemService.findByIdOrThrow(stale.getId());
+        assertEquals("Renamed", updated.getName());
+        assertEquals("Updated", updated.getDescription());
+        assertEquals("renamed@example.com", updated.getEmail());
+        assertEquals("NEW", updated.getStatus());
+        assertEquals(ProcessingState.PENDING, updated.getProcessingState());
+        assertEquals("PROCESSED", itemService.findByIdOrThrow(fresh.getId()).getStatus());
+    }
+}
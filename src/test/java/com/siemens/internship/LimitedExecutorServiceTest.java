@@ -0,0 +1,51 @@
+package com.siemens.internship;
+
+import com.siemens.internship.config.LimitedExecutorService;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LimitedExecutorServiceTest {
+
+    /**
+     * A task interrupted while waiting for a permit still runs, so the future it feeds completes.
+     */
+    @Test
+    void testTaskInterruptedWhileWaitingStillRuns() throws Exception {
+        LimitedExecutorService executor = new LimitedExecutorService(Executors.newFixedThreadPool(2), 1);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // holds the permit through the interrupt, so the second task is still waiting when it gets its own
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            holding.countDown();
+            boolean interrupted = false;
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }, executor);
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(
+                () -> Thread.currentThread().isInterrupted(), executor);
+        while (executor.getWaitingCount() == 0) {
+            Thread.onSpinWait();
+        }
+
+        executor.shutdownNow();
+
+        assertTrue(waiting.get(5, TimeUnit.SECONDS));
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+    }
+}
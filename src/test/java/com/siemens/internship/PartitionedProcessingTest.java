@@ -0,0 +1,99 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChange;
+import com.siemens.internship.model.ProcessingState;
+import com.siemens.internship.repository.ItemChangeRepository;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.PartitionedItemProcessor;
+import com.siemens.internship.service.ProcessingJob;
+import com.siemens.internship.service.ProcessingJobStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs several application contexts ("nodes") against one shared file-based database and checks that
+ * partitioned processing handles every item exactly once. AUTO_SERVER lets separate processes open
+ * the same file too; here the nodes share one JVM.
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class PartitionedProcessingTest {
+
+    private static final int NODES = 3;
+    private static final int ITEMS = 500;
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void testNodesProcessEveryItemExactlyOnce(@TempDir Path dir, CapturedOutput output) {
+        String dbUrl = "jdbc:h2:file:" + dir.resolve("items").toAbsolutePath() + ";AUTO_SERVER=TRUE";
+        for (int n = 0; n < NODES; n++) {
+            nodes.add(new SpringApplicationBuilder(InternshipApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .properties(
+                            "spring.datasource.url=" + dbUrl,
+                            "spring.jmx.enabled=false",
+                            "items.node-id=node-" + n,
+                            "items.partition.size=50",
+                            "items.processing.chunk-size=10",
+                            "items.processing.simulated-work-ms=0")
+                    .run());
+        }
+
+        ItemRepository repository = nodes.get(0).getBean(ItemRepository.class);
+        List<Item> seed = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            seed.add(new Item(null, "Item" + i, "Description", "NEW", "item" + i + "@example.com"));
+        }
+        repository.saveAll(seed);
+
+        List<ProcessingJob> jobs = new ArrayList<>();
+        List<CompletableFuture<Void>> runs = new ArrayList<>();
+        for (int n = 0; n < NODES; n++) {
+            ProcessingJob job = new ProcessingJob("node-" + n);
+            PartitionedItemProcessor processor = nodes.get(n).getBean(PartitionedItemProcessor.class);
+            jobs.add(job);
+            runs.add(CompletableFuture.runAsync(() -> processor.run(job)));
+        }
+        CompletableFuture.allOf(runs.toArray(CompletableFuture[]::new)).join();
+
+        long processed = 0;
+        for (ProcessingJob job : jobs) {
+            ProcessingJobStatus status = job.snapshot();
+            assertEquals(ProcessingJob.State.COMPLETED, status.state());
+            assertEquals(0, status.failed());
+            processed += status.processed();
+        }
+        assertEquals(ITEMS, processed);
+        assertEquals(0, repository.countPending());
+        assertTrue(repository.findAll().stream()
+                .allMatch(item -> item.getProcessingState() == ProcessingState.PROCESSED
+                        && "PROCESSED".equals(item.getStatus())
+                        && item.getVersion() == 1L));
+        // one change feed entry per processed item, committed with the claim
+        assertEquals(ITEMS, nodes.get(0).getBean(ItemChangeRepository.class).findAll().stream()
+                .filter(change -> change.getType() == ItemChange.Type.PROCESSED)
+                .count());
+        // nodes racing to create the same partition rows is normal, not an error
+        assertFalse(output.getAll().contains("primary key violation"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.siemens.internship;
+
+import com.siemens.internship.ratelimit.RateLimiter;
+import com.siemens.internship.utils.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setup() {
+        rateLimiter = new RateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "environment", new MockEnvironment()
+                .withProperty("items.rate-limit.process.capacity", "2")
+                .withProperty("items.rate-limit.process.refill-per-second", "0.5"));
+        ReflectionTestUtils.setField(rateLimiter, "defaultCapacity", 3);
+        ReflectionTestUtils.setField(rateLimiter, "defaultRefillPerSecond", 10.0);
+        ReflectionTestUtils.setField(rateLimiter, "clock", (LongSupplier) now::get);
+    }
+
+    /**
+     * We test that a full bucket lets a burst through, then rejects with the time until the next token
+     */
+    @Test
+    void testBurstThenReject() {
+        rateLimiter.acquire("process", "10.0.0.1");
+        rateLimiter.acquire("process", "10.0.0.1");
+        TooManyRequestsException rejected = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.acquire("process", "10.0.0.1"));
+        assertEquals(2000, rejected.getRetryAfter().toMillis(), 1);
+
+        now.addAndGet(Duration.ofMillis(2100).toNanos());
+        assertDoesNotThrow(() -> rateLimiter.acquire("process", "10.0.0.1"));
+        assertThrows(TooManyRequestsException.class, () -> rateLimiter.acquire("process", "10.0.0.1"));
+    }
+
+    /**
+     * We test that every client and every endpoint has its own bucket, with the default limits as fallback
+     */
+    @Test
+    void testBucketsPerClientAndEndpoint() {
+        rateLimiter.acquire("process", "10.0.0.1");
+        rateLimiter.acquire("process", "10.0.0.1");
+        assertDoesNotThrow(() -> rateLimiter.acquire("process", "10.0.0.2"));
+
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquire("create", "10.0.0.1");
+        }
+        assertThrows(TooManyRequestsException.class, () -> rateLimiter.acquire("create", "10.0.0.1"));
+        assertEquals(3, rateLimiter.size());
+    }
+
+    /**
+     * We test that a disabled limiter lets everything through
+     */
+    @Test
+    void testDisabled() {
+        ReflectionTestUtils.setField(rateLimiter, "enabled", false);
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.acquire("process", "10.0.0.1");
+        }
+        assertEquals(0, rateLimiter.size());
+    }
+}
@@ -0,0 +1,145 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.processing.ItemPipeline;
+import com.siemens.internship.processing.MarkProcessedProcessor;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.ItemProcessingMetrics;
+import com.siemens.internship.service.ItemService;
+import com.siemens.internship.service.ReactiveItemProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+import static java.util.Comparator.comparing;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class ReactiveItemProcessorTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private ItemService itemService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ItemProcessingMetrics metrics = new ItemProcessingMetrics(meterRegistry);
+
+    @InjectMocks
+    private ReactiveItemProcessor processor;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private final ForkJoinPool cpuPool = new ForkJoinPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        cpuPool.shutdownNow();
+    }
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(processor, "pipeline",
+                new ItemPipeline(List.of(new MarkProcessedProcessor()), cpuPool, executor, meterRegistry));
+        ReflectionTestUtils.setField(processor, "readPageSize", 2);
+    }
+
+    /**
+     * We test that every pending page is read, written in a batch, and only the items
+     * this run claimed are emitted and counted as processed
+     */
+    @Test
+    void testProcessEmitsClaimedItems() {
+        when(itemRepository.findPendingAfter(Long.MIN_VALUE, PageRequest.of(0, 2)))
+                .thenReturn(List.of(item(1L, "NEW"), item(2L, "NEW")));
+        when(itemRepository.findPendingAfter(2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(item(3L, "NEW")));
+        // item 2 was claimed by another worker in the meantime
+        when(itemService.writeProcessed(anyList())).thenAnswer(inv -> {
+            List<Item> batch = inv.getArgument(0);
+            return batch.stream().filter(item -> item.getId() != 2L).sorted(comparing(Item::getId)).toList();
+        });
+
+        StepVerifier.create(processor.process())
+                .assertNext(first -> assertEquals(1L, first.getId()))
+                .assertNext(second -> {
+                    assertEquals(3L, second.getId());
+                    assertEquals("PROCESSED", second.getStatus());
+                })
+                .verifyComplete();
+
+        // the short second page ends the walk without one more query
+        verify(itemRepository, times(2)).findPendingAfter(any(), any());
+        verify(itemService).writeProcessed(anyList());
+        assertEquals(2.0, meterRegistry.get("items.processing.outcome").tag("outcome", "processed").counter().count());
+        assertEquals(1.0, meterRegistry.get("items.processing.outcome").tag("outcome", "skipped").counter().count());
+    }
+
+    /**
+     * We test that a slow subscriber limits how far the reader gets: with an endless supply of
+     * pending items, requesting one result must only read a few pages
+     */
+    @Test
+    void testReaderFollowsDemand() {
+        ReflectionTestUtils.setField(processor, "transformConcurrency", 2);
+        ReflectionTestUtils.setField(processor, "transformBuffer", 2);
+        ReflectionTestUtils.setField(processor, "writeBatchSize", 1);
+        ReflectionTestUtils.setField(processor, "writeConcurrency", 1);
+        when(itemRepository.findPendingAfter(any(), any())).thenAnswer(inv -> {
+            long lastId = inv.getArgument(0);
+            long from = lastId == Long.MIN_VALUE ? 1 : lastId + 1;
+            int size = inv.<Pageable>getArgument(1).getPageSize();
+            return LongStream.range(from, from + size).mapToObj(id -> item(id, "NEW")).toList();
+        });
+        when(itemService.writeProcessed(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        StepVerifier.create(processor.process(), 1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        verify(itemRepository, atMost(10)).findPendingAfter(any(), any());
+    }
+
+    /**
+     * We test that a failing write batch is counted as failed and doesn't end the run
+     */
+    @Test
+    void testFailedBatchIsCounted() {
+        when(itemRepository.findPendingAfter(Long.MIN_VALUE, PageRequest.of(0, 2)))
+                .thenReturn(List.of(item(1L, "NEW")));
+        when(itemService.writeProcessed(anyList())).thenThrow(new RuntimeException("DB down"));
+
+        StepVerifier.create(processor.process())
+                .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get("items.processing.outcome").tag("outcome", "failed").counter().count());
+    }
+
+    private static Item item(Long id, String status) {
+        return new Item(id, "Item" + id, "Desc", status, "item" + id + "@example.com");
+    }
+}
@@ -0,0 +1,96 @@
+package com.siemens.internship;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Wraps the application's DataSource and records every statement sent to the database while recording:
+ * one entry per execute call, so a JDBC batch counts once, like the round trip it is.
+ * Sequence increments are kept apart: item ids come from pooled blocks of 50, so whether an operation pays
+ * for one depends on the ids handed out before it. They can be read separately to check no per-row
+ * increments creep back in (change feed seqs are drawn inside the batched INSERT, see ItemChangeLog).
+ */
+public class SqlStatementRecorder implements BeanPostProcessor {
+
+    private final List<String> statements = new ArrayList<>();
+    private final List<String> sequenceIncrements = new ArrayList<>();
+    private volatile boolean recording;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource ? proxy(DataSource.class, bean, null) : bean;
+    }
+
+    /**
+     * Forget what was recorded and record from now on.
+     */
+    public synchronized void start() {
+        statements.clear();
+        sequenceIncrements.clear();
+        recording = true;
+    }
+
+    /**
+     * @return statements recorded since start, lower-cased
+     */
+    public synchronized List<String> stop() {
+        recording = false;
+        return List.copyOf(statements);
+    }
+
+    /**
+     * @return sequence increments sent during the last recording, lower-cased
+     */
+    public synchronized List<String> sequenceIncrements() {
+        return List.copyOf(sequenceIncrements);
+    }
+
+    private synchronized void record(String sql) {
+        String statement = sql.trim().toLowerCase(Locale.ROOT);
+        if (recording) {
+            boolean increment = !statement.startsWith("insert") && statement.contains("next value for");
+            (increment ? sequenceIncrements : statements).add(statement);
+        }
+    }
+
+    /**
+     * Connections and statements are proxied in turn; a statement remembers the SQL it was prepared with.
+     */
+    private Object proxy(Class<?> type, Object target, String preparedSql) {
+        InvocationHandler handler = (self, method, args) -> {
+            if (Statement.class.isAssignableFrom(type) && method.getName().startsWith("execute")) {
+                record(preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String sql ? sql
+                        : method.getName());
+            }
+            Object result = invoke(method, target, args);
+            if (result instanceof Connection) {
+                return proxy(Connection.class, result, null);
+            }
+            if (result instanceof Statement && type == Connection.class) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return proxy(method.getReturnType(), result, sql);
+            }
+            return result;
+        };
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- Rows present before the application starts, for ItemStatsSeededTest.
+INSERT INTO item (id, name, description, status, processing_state, email, email_domain, version)
+VALUES (1, 'Seeded1', 'Desc', 'NEW', 'PENDING', 'one@seeded.com', 'seeded.com', 0),
+       (2, 'Seeded2', 'Desc', 'NEW', 'PENDING', 'two@seeded.com', 'seeded.com', 0),
+       (3, 'Seeded3', 'Desc', 'PROCESSED', 'PROCESSED', 'three@seeded.org', 'seeded.org', 0);
+ALTER SEQUENCE item_seq RESTART WITH 53;